@@ -1,6 +1,8 @@
 plugins {
     id("org.springframework.boot") version "3.5.8"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
+    id("org.graalvm.buildtools.native") version "0.10.6"
     java
 }
 
@@ -51,13 +53,49 @@ if (!System.getenv("NEXUS_PUBLIC_URL").isNullOrBlank()) {
     }
 }
 
+// 종단간 부하/동기화 측정 도구 (src/harness)
+val harness: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[harness.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[harness.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    jmhImplementation("org.springframework:spring-test")
+}
+
+// 성능 측정: ./gradlew jmh [-PjmhIncludes=Catalog]
+// 결과는 build/results/jmh/results.json (커밋 간 비교용)
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    profilers.add("gc")
+    findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
+// 가짜 업스트림 대상 동기화 1주기 + 동시 다운로드 부하 측정: ./gradlew loadHarness -PharnessArgs="--clients=64 --requests=5000"
+// 결과는 build/results/harness/report.json
+tasks.register<JavaExec>("loadHarness") {
+    group = "verification"
+    description = "Runs the sync cycle and download load against an embedded stub upstream"
+    classpath = harness.runtimeClasspath
+    mainClass.set("com.javelin.JavelinLoadHarness")
+    jvmArgs("-Xmx1g")
+    args((findProperty("harnessArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
 }
 
 tasks.withType<Test> {
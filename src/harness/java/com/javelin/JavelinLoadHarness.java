@@ -0,0 +1,376 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 동기화 주기/서빙 처리량 측정 - 가짜 업스트림을 띄우고 실제 동기화 파이프라인과 컨트롤러를 대상으로 부하 생성
+// 실행: ./gradlew loadHarness -PharnessArgs="--clients=64 --requests=5000 --binary-size=64MB"
+// 가상 스레드 비교: --clients=1000 --requests=20000 에 --spring.threads.virtual.enabled=true/false 와 --output 을 달리해 두 번 실행
+// (부하 클라이언트는 가상 스레드로 동작하므로 peakThreads 는 서버 측 플랫폼 스레드 수를 나타냄)
+public final class JavelinLoadHarness
+{
+    private JavelinLoadHarness()
+    {
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        Map<String, String> options = parseOptions(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "2000"));
+        Path output = Paths.get(options.getOrDefault("output", "build/results/harness/report.json"));
+
+        JavelinStubUpstream.Options upstreamOptions = new JavelinStubUpstream.Options(
+                Long.parseLong(options.getOrDefault("latency-ms", "20")),
+                DataSize.parse(options.getOrDefault("bandwidth", "0B")).toBytes(),
+                Double.parseDouble(options.getOrDefault("failure-rate", "0")),
+                Double.parseDouble(options.getOrDefault("stall-rate", "0")),
+                DataSize.parse(options.getOrDefault("binary-size", "32MB")).toBytes(),
+                DataSize.parse(options.getOrDefault("vsix-size", "2MB")).toBytes());
+
+        Path mirror = Files.createTempDirectory("javelin-harness");
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+
+        try (JavelinStubUpstream upstream = new JavelinStubUpstream(upstreamOptions);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(JavelinApplication.class)
+                     .run(commandLineArguments(applicationProperties(upstream.baseUrl(), mirror, options))))
+        {
+            // 1. 동기화 1주기
+            resetPeaks();
+            long cycleStart = System.nanoTime();
+            context.getBean(JavelinDownloadFiles.class).synchronize().block();
+            long cycleMillis = (System.nanoTime() - cycleStart) / 1_000_000;
+
+            List<String> files;
+            try (var paths = Files.walk(mirror))
+            {
+                files = paths.filter(Files::isRegularFile)
+                        .map(path -> mirror.relativize(path).toString().replace('\\', '/'))
+                        .toList();
+            }
+            if (files.isEmpty())
+            {
+                throw new IllegalStateException("동기화된 파일이 없습니다. 로그를 확인하세요 (--log-level=INFO)");
+            }
+            long mirroredBytes = 0;
+            for (String file : files)
+            {
+                mirroredBytes += Files.size(mirror.resolve(file));
+            }
+
+            Map<String, Object> sync = new LinkedHashMap<>();
+            sync.put("cycleMillis", cycleMillis);
+            sync.put("files", files.size());
+            sync.put("bytes", mirroredBytes);
+            sync.put("throughputMBps", mirroredBytes / 1048576.0 / Math.max(0.001, cycleMillis / 1000.0));
+            sync.put("upstreamRequests", upstream.requests());
+            sync.put("peakHeapMB", peakHeapBytes() / 1048576.0);
+            sync.put("peakThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            report.put("sync", sync);
+
+            // 2. 동시 다운로드 부하
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            report.put("load", runLoad("http://127.0.0.1:" + port, files, clients, requests, options));
+
+            // 3. 확장 묶음 전체 받기 - HTTP/1.1 과 HTTP/2(h2c) 비교
+            int rounds = Integer.parseInt(options.getOrDefault("extension-rounds", "10"));
+            List<String> extensions = files.stream().filter(file -> file.endsWith(".vsix")).toList();
+            Map<String, Object> extensionSet = new LinkedHashMap<>();
+            extensionSet.put("files", extensions.size());
+            extensionSet.put("HTTP_1_1", runExtensionSet("http://127.0.0.1:" + port, extensions, HttpClient.Version.HTTP_1_1, rounds));
+            extensionSet.put("HTTP_2", runExtensionSet("http://127.0.0.1:" + port, extensions, HttpClient.Version.HTTP_2, rounds));
+            report.put("extensionSet", extensionSet);
+        }
+        finally
+        {
+            deleteRecursively(mirror);
+        }
+
+        String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json);
+        System.out.println(json);
+        System.exit(0);
+    }
+
+    // builder.properties() 는 기본값이라 application.yaml 이 우선하므로 명령행 인자로 전달해 덮어씀
+    private static String[] commandLineArguments(Map<String, Object> properties)
+    {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    static Map<String, Object> applicationProperties(String upstream, Path mirror, Map<String, String> options)
+    {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("logging.level.root", options.getOrDefault("log-level", "WARN"));
+        properties.put("javelin.download.enable", "true");
+        properties.put("javelin.download.clear", "false");
+        properties.put("javelin.download.path", mirror.toString());
+        properties.put("javelin.download.schedule.initial-delay", String.valueOf(Duration.ofDays(1).toMillis()));
+        properties.put("javelin.amazon-corretto.url", upstream + "/corretto/amazon-corretto-{version}-x64-windows-jdk.msi");
+        properties.put("javelin.apache-maven.url", upstream + "/repos/apache/maven/tags");
+        properties.put("javelin.apache-maven.prefix", upstream + "/maven/maven-");
+        properties.put("javelin.gradle.url", upstream + "/versions/current");
+        properties.put("javelin.gradle.prefix", upstream + "/distributions/gradle-");
+        properties.put("javelin.git.url", upstream + "/repos/git-for-windows/git/tags");
+        properties.put("javelin.git.prefix", upstream + "/repos/git-for-windows/git/releases/tags/");
+        properties.put("javelin.vscode.url", upstream + "/api/update/win32-x64/stable/latest");
+        properties.put("javelin.vscode.extension.url", upstream + "/openvsx/");
+        properties.put("javelin.spring-tool-suite.url", upstream + "/sts/{sts-prefix}/{sts-version}/{eclipse-version}/spring-tools-for-eclipse-{sts-version}-{eclipse-version}.0-win32.win32.x86_64.zip");
+        properties.put("javelin.postman.enabled", "false");
+        options.forEach((key, value) -> {
+            if (key.startsWith("javelin.") || key.startsWith("server.") || key.startsWith("spring."))
+            {
+                properties.put(key, value);  // 애플리케이션 설정 직접 지정 (예: --spring.threads.virtual.enabled=true)
+            }
+        });
+        return properties;
+    }
+
+    private static Map<String, Object> runLoad(String baseUrl, List<String> files, int clients, int requests,
+                                               Map<String, String> options) throws Exception
+    {
+        HttpClient.Version version = "2".equals(options.get("http")) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+        HttpClient client = HttpClient.newBuilder()
+                .version(version)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long[] latencies = new long[requests];
+        long[] firstBytes = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+
+        resetPeaks();
+        long cpuBefore = threadCpuMillis();
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++)
+        {
+            futures.add(workers.submit(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < requests)
+                {
+                    String file = files.get(index % files.size());
+                    long requestStart = System.nanoTime();
+                    try
+                    {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/getFile/" + encodePath(file))).GET().build();
+                        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                        firstBytes[index] = System.nanoTime() - requestStart;
+                        bytes.addAndGet(drain(response.body()));
+                        if (response.statusCode() != 200)
+                        {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    catch (IOException e)
+                    {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - requestStart;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures)
+        {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        workers.shutdown();
+
+        Map<String, Object> load = new LinkedHashMap<>();
+        load.put("httpVersion", version.name());
+        load.put("virtualThreads", Boolean.parseBoolean(options.getOrDefault("spring.threads.virtual.enabled", "false")));
+        load.put("clients", clients);
+        load.put("requests", requests);
+        load.put("errors", errors.get());
+        load.put("elapsedMillis", elapsedNanos / 1_000_000);
+        load.put("requestsPerSecond", requests / (elapsedNanos / 1e9));
+        load.put("throughputMBps", bytes.get() / 1048576.0 / (elapsedNanos / 1e9));
+        load.put("latencyP50Millis", percentile(latencies, 0.50));
+        load.put("latencyP99Millis", percentile(latencies, 0.99));
+        load.put("firstByteP50Millis", percentile(firstBytes, 0.50));
+        load.put("firstByteP99Millis", percentile(firstBytes, 0.99));
+        load.put("peakHeapMB", peakHeapBytes() / 1048576.0);
+        load.put("peakThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        load.put("threadCpuMillis", threadCpuMillis() - cpuBefore);
+        return load;
+    }
+
+    // 카탈로그를 받은 뒤 모든 확장을 동시에 요청 - 매 회 새 클라이언트로 연결 수립/슬로 스타트 비용까지 포함
+    private static Map<String, Object> runExtensionSet(String baseUrl, List<String> extensions, HttpClient.Version version, int rounds)
+            throws Exception
+    {
+        long[] totals = new long[rounds];
+        int errors = 0;
+        for (int round = 0; round < rounds; round++)
+        {
+            long start = System.nanoTime();
+            try (HttpClient client = HttpClient.newBuilder().version(version).executor(Executors.newVirtualThreadPerTaskExecutor()).build())
+            {
+                // 첫 요청에서 h2c 업그레이드가 끝나야 이후 요청이 한 연결로 다중화됨
+                HttpResponse<InputStream> catalog = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/catalog")).GET().build(),
+                        HttpResponse.BodyHandlers.ofInputStream());
+                drain(catalog.body());
+
+                List<CompletableFuture<HttpResponse<InputStream>>> responses = new ArrayList<>();
+                for (String extension : extensions)
+                {
+                    responses.add(client.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + "/getFile/" + encodePath(extension))).GET().build(),
+                            HttpResponse.BodyHandlers.ofInputStream()));
+                }
+                for (CompletableFuture<HttpResponse<InputStream>> response : responses)
+                {
+                    HttpResponse<InputStream> result = response.get();
+                    drain(result.body());
+                    if (result.statusCode() != 200 || result.version() != version)
+                    {
+                        errors++;  // 프로토콜 협상 실패도 오류로 집계
+                    }
+                }
+            }
+            totals[round] = System.nanoTime() - start;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rounds", rounds);
+        result.put("errors", errors);
+        result.put("totalP50Millis", percentile(totals, 0.50));
+        result.put("totalP99Millis", percentile(totals, 0.99));
+        return result;
+    }
+
+    private static String encodePath(String path)
+    {
+        StringBuilder encoded = new StringBuilder();
+        for (String segment : path.split("/"))
+        {
+            if (encoded.length() > 0)
+            {
+                encoded.append('/');
+            }
+            encoded.append(URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return encoded.toString();
+    }
+
+    private static long drain(InputStream body) throws IOException
+    {
+        long total = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (body)
+        {
+            int read;
+            while ((read = body.read(buffer)) != -1)
+            {
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    private static double percentile(long[] nanos, double percentile)
+    {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted.length == 0 ? 0 : sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static void resetPeaks()
+    {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+    }
+
+    // 살아있는 플랫폼 스레드들의 누적 CPU 시간 (문맥 전환 비용 비교용)
+    private static long threadCpuMillis()
+    {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadCpuTimeSupported())
+        {
+            return -1;
+        }
+        return Arrays.stream(threads.getAllThreadIds())
+                .map(threads::getThreadCpuTime)
+                .filter(nanos -> nanos > 0)
+                .sum() / 1_000_000;
+    }
+
+    private static long peakHeapBytes()
+    {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static Map<String, String> parseOptions(String[] args)
+    {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args)
+        {
+            if (arg.startsWith("--") && arg.contains("="))
+            {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static void deleteRecursively(Path root) throws IOException
+    {
+        try (var paths = Files.walk(root))
+        {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+            {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// 로컬 가짜 업스트림 - GitHub tags/releases, Gradle versions, VS Code update, Open VSX API 와 대용량 바이너리 제공
+// 지연 시간, 대역폭, 실패율, 전송 정체율을 조절할 수 있고 Range 요청을 지원
+final class JavelinStubUpstream implements AutoCloseable
+{
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+    private static final int CHUNK = 16 * 1024;
+
+    private final Options options;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    record Options(long latencyMillis, long bandwidthBytesPerSecond, double failureRate, double stallRate,
+                   long binarySize, long vsixSize) {}
+
+    JavelinStubUpstream(Options options) throws IOException
+    {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String baseUrl()
+    {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long requests()
+    {
+        return requests.get();
+    }
+
+    long bytesSent()
+    {
+        return bytesSent.get();
+    }
+
+    @Override
+    public void close()
+    {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException
+    {
+        requests.incrementAndGet();
+        try (exchange)
+        {
+            sleep(options.latencyMillis());
+
+            if (ThreadLocalRandom.current().nextDouble() < options.failureRate())
+            {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/repos/apache/maven/tags"))
+            {
+                github(exchange, "[{\"name\":\"maven-4.0.0-rc-4\"},{\"name\":\"maven-3.9.11\"},{\"name\":\"maven-3.9.10\"}]");
+            }
+            else if (path.equals("/repos/git-for-windows/git/tags"))
+            {
+                github(exchange, "[{\"name\":\"v2.52.0-rc1.windows.1\"},{\"name\":\"v2.51.0.windows.1\"}]");
+            }
+            else if (path.startsWith("/repos/git-for-windows/git/releases/tags/"))
+            {
+                github(exchange, "{\"assets\":[{\"browser_download_url\":\"" + baseUrl() + "/files/Git-2.51.0-32-bit.exe\"},"
+                        + "{\"browser_download_url\":\"" + baseUrl() + "/files/Git-2.51.0-64-bit.exe\"}]}");
+            }
+            else if (path.equals("/versions/current"))
+            {
+                json(exchange, "{\"version\":\"8.14.3\"}");
+            }
+            else if (path.startsWith("/api/update/"))
+            {
+                json(exchange, "{\"name\":\"1.105.1\",\"url\":\"" + baseUrl() + "/files/VSCodeSetup-x64-1.105.1.exe\"}");
+            }
+            else if (path.startsWith("/openvsx/") && path.endsWith(".vsix"))
+            {
+                binary(exchange, options.vsixSize());
+            }
+            else if (path.startsWith("/openvsx/"))
+            {
+                json(exchange, "{\"version\":\"1.0.0\"}");
+            }
+            else
+            {
+                binary(exchange, options.binarySize());
+            }
+        }
+    }
+
+    private void github(HttpExchange exchange, String body) throws IOException
+    {
+        exchange.getResponseHeaders().set("X-RateLimit-Remaining", "4999");
+        exchange.getResponseHeaders().set("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+        json(exchange, body);
+    }
+
+    private void json(HttpExchange exchange, String body) throws IOException
+    {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    // 패턴 바이트 스트림 - Range 요청 시 206, 대역폭 제한과 전송 정체(중간에 멈춤) 재현
+    private void binary(HttpExchange exchange, long size) throws IOException
+    {
+        long start = 0;
+        long end = size - 1;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range == null ? null : RANGE.matcher(range);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+        if (matcher != null && matcher.matches())
+        {
+            start = Long.parseLong(matcher.group(1));
+            if (!matcher.group(2).isEmpty())
+            {
+                end = Math.min(end, Long.parseLong(matcher.group(2)));
+            }
+            if (start > end)
+            {
+                exchange.getResponseHeaders().set("Content-Range", "bytes */" + size);
+                exchange.sendResponseHeaders(416, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + size);
+            exchange.sendResponseHeaders(206, end - start + 1);
+        }
+        else
+        {
+            exchange.sendResponseHeaders(200, size);
+        }
+
+        long stallAt = ThreadLocalRandom.current().nextDouble() < options.stallRate()
+                ? start + (end - start + 1) / 2
+                : Long.MAX_VALUE;
+
+        byte[] chunk = new byte[CHUNK];
+        OutputStream out = exchange.getResponseBody();
+        long position = start;
+        long startNanos = System.nanoTime();
+        while (position <= end)
+        {
+            if (position >= stallAt)
+            {
+                sleep(Long.MAX_VALUE);  // 연결은 유지한 채 전송 중단 (클라이언트 정체 감지 대상)
+            }
+
+            int length = (int) Math.min(CHUNK, end - position + 1);
+            for (int i = 0; i < length; i++)
+            {
+                chunk[i] = (byte) ((position + i) % 251);
+            }
+            out.write(chunk, 0, length);
+            position += length;
+            bytesSent.addAndGet(length);
+
+            if (options.bandwidthBytesPerSecond() > 0)
+            {
+                long expectedNanos = (position - start) * 1_000_000_000L / options.bandwidthBytesPerSecond();
+                long aheadMillis = (expectedNanos - (System.nanoTime() - startNanos)) / 1_000_000;
+                sleep(aheadMillis);
+            }
+        }
+    }
+
+    private static void sleep(long millis)
+    {
+        if (millis <= 0)
+        {
+            return;
+        }
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("중단됨", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ui.ExtendedModelMap;
+
+import reactor.core.scheduler.Schedulers;
+
+// 카탈로그 생성(전체 검사/무변경 재검사)과 인덱스 화면 모델 구성 시간
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavelinCatalogBenchmark
+{
+    @Param({"100", "1000", "10000", "100000"})
+    public int fileCount;
+
+    private Path root;
+    private JavelinConfig config;
+    private JavelinClassifier classifier;
+    private JavelinCatalog warmCatalog;
+    private JavelinController controller;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        root = JavelinMirrorFixture.create(fileCount, 16);
+        config = JavelinMirrorFixture.config(root);
+        classifier = new JavelinClassifier(config);
+        warmCatalog = new JavelinCatalog(config, JavelinMirrorFixture.objectMapper(), classifier, event -> {}, Schedulers.boundedElastic());
+        warmCatalog.refresh();
+        controller = new JavelinController(config, warmCatalog, classifier, null, null);  // 화면 캐시 없이 모델 구성만 측정
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        JavelinMirrorFixture.delete(root);
+    }
+
+    // 최초 생성 - 디렉토리 검사, 분류, 해시, 직렬화/압축 모두 포함
+    @Benchmark
+    public JavelinCatalog.Snapshot buildFromScratch()
+    {
+        return new JavelinCatalog(config, JavelinMirrorFixture.objectMapper(), classifier, event -> {}, Schedulers.boundedElastic()).refresh();
+    }
+
+    // 변경 없는 재검사 - 디렉토리 검사와 속성 비교만 수행
+    @Benchmark
+    public JavelinCatalog.Snapshot rescanUnchanged()
+    {
+        return warmCatalog.refresh();
+    }
+
+    // 인덱스 화면 모델 구성 (요청당 비용)
+    @Benchmark
+    public ExtendedModelMap showAll()
+    {
+        ExtendedModelMap model = new ExtendedModelMap();
+        controller.showAll(model);
+        return model;
+    }
+}
@@ -0,0 +1,64 @@
+package com.javelin;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 파일 분류/버전 추출(application.yaml 규칙)과 크기 표기 처리량 (-prof gc 로 호출당 할당량 확인)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavelinClassifierBenchmark
+{
+    private static final int NAME_COUNT = 1024;
+
+    private final String[] relativePaths = new String[NAME_COUNT];
+    private final long[] sizes = new long[NAME_COUNT];
+    private JavelinClassifier classifier;
+
+    @Setup
+    public void setUp()
+    {
+        for (int i = 0; i < NAME_COUNT; i++)
+        {
+            relativePaths[i] = JavelinMirrorFixture.relativePath(i);
+            sizes[i] = 1L << (i % 40);
+        }
+        classifier = new JavelinClassifier(JavelinMirrorFixture.config(Path.of("build/jmh-unused")));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAME_COUNT)
+    public void classify(Blackhole blackhole)
+    {
+        for (String relativePath : relativePaths)
+        {
+            blackhole.consume(classifier.classify(relativePath));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAME_COUNT)
+    public void formatFileSize(Blackhole blackhole)
+    {
+        for (long size : sizes)
+        {
+            blackhole.consume(JavelinCatalog.formatFileSize(size));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// 벤치마크용 가상 미러 디렉토리 - 실제 미러와 같은 이름 규칙으로 파일 생성
+final class JavelinMirrorFixture
+{
+    static final List<String> EXTENSION_CATEGORIES = List.of("common", "java", "spring", "openapi");
+
+    private JavelinMirrorFixture()
+    {
+    }
+
+    // 미러 파일 상대 경로 (index 별로 고유)
+    static String relativePath(int index)
+    {
+        int version = index / 16;
+        switch (index % 16)
+        {
+            case 0: return "amazon-corretto-" + (8 + index % 20) + "." + version + ".1-x64-windows-jdk.msi";
+            case 1: return "apache-maven-3." + version + ".9-bin.tar.gz";
+            case 2: return "gradle-8." + version + "-bin.zip";
+            case 3: return "Git-2." + version + ".0-64-bit.exe";
+            case 4: return "VSCodeSetup-x64-1." + version + ".2.exe";
+            case 5: return "spring-tools-for-eclipse-4." + version + ".2.RELEASE-e4.37.0-win32.win32.x86_64.zip";
+            case 6: return "Postman-win64-9." + version + ".32-Setup.exe";
+            case 7: return "unknown-artifact-" + version + ".bin";
+            default:
+                String category = EXTENSION_CATEGORIES.get(index % EXTENSION_CATEGORIES.size());
+                return "extension/" + category + "/publisher" + (index % 16) + ".extension." + version + ".0." + index % 7 + ".vsix";
+        }
+    }
+
+    static Path create(int fileCount, int fileSize) throws IOException
+    {
+        Path root = Files.createTempDirectory("javelin-mirror");
+        byte[] content = new byte[fileSize];
+        for (int i = 0; i < fileCount; i++)
+        {
+            Path file = root.resolve(relativePath(i));
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+        }
+        return root;
+    }
+
+    static void delete(Path root) throws IOException
+    {
+        if (root == null || !Files.exists(root))
+        {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root))
+        {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+            {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // application.yaml 의 javelin 설정(분류 규칙 포함)에 미러 경로만 바꿔서 사용
+    static JavelinConfig config(Path root)
+    {
+        JavelinConfig config;
+        try
+        {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"));
+            config = new Binder(ConfigurationPropertySources.from(sources)).bindOrCreate("javelin", JavelinConfig.class);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        config.getDownload().setPath(root.toString());
+        return config;
+    }
+
+    // Spring Boot 기본 설정과 같은 날짜 직렬화
+    static ObjectMapper objectMapper()
+    {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,94 @@
+package com.javelin;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.scheduler.Schedulers;
+
+// /getFile 경로로 파일 전송 - 실제 컨트롤러와 DispatcherServlet, 메시지 컨버터를 거침
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavelinServingBenchmark
+{
+    @Param({"4096", "1048576", "67108864"})
+    public int fileSize;
+
+    @Param({"hot", "cold"})
+    public String tier;  // cold 이면 콜드 계층 형식으로 옮긴 뒤 풀면서 전송
+
+    private Path root;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        root = Files.createTempDirectory("javelin-serving");
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        Path file = root.resolve("gradle-8.14-bin.zip");
+        Files.write(file, content);
+        if ("cold".equals(tier))
+        {
+            JavelinColdFile.compress(file, JavelinColdFile.coldPath(file), 1024 * 1024, null);
+            Files.delete(file);
+        }
+
+        JavelinConfig config = JavelinMirrorFixture.config(root);
+        JavelinClassifier classifier = new JavelinClassifier(config);
+        JavelinCatalog catalog = new JavelinCatalog(config, JavelinMirrorFixture.objectMapper(), classifier, event -> {}, Schedulers.boundedElastic());
+        JavelinColdStorage coldStorage = new JavelinColdStorage(config, catalog, JavelinMirrorFixture.objectMapper(), Schedulers.boundedElastic(), new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(new JavelinController(config, catalog, classifier, null, coldStorage)).build();  // 파일 전송만 측정 (화면 캐시 불필요)
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        JavelinMirrorFixture.delete(root);
+    }
+
+    @Benchmark
+    public int getFile() throws Exception
+    {
+        return mockMvc.perform(get("/getFile/gradle-8.14-bin.zip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray()
+                .length;
+    }
+
+    // Range 요청 (이어받기 클라이언트) - 앞쪽 4KB
+    @Benchmark
+    public int getFileRange() throws Exception
+    {
+        return mockMvc.perform(get("/getFile/gradle-8.14-bin.zip").header("Range", "bytes=0-4095"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray()
+                .length;
+    }
+}
@@ -0,0 +1,105 @@
+package com.javelin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class JavelinAdminController
+{
+    private static final String ADMIN_TOKEN_HEADER = "X-Javelin-Admin-Token";
+
+    private final JavelinConfig javelinConfig;
+    private final JavelinRefreshJobs refreshJobs;
+
+    // 단일 소스 갱신 요청 (예: corretto:25, gradle, extension:redhat.java)
+    @PostMapping("/admin/refresh/{target}")
+    @ResponseBody
+    public ResponseEntity<Object> refresh(@PathVariable String target,
+                                          @RequestParam(defaultValue = "false") boolean force,
+                                          @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token)
+    {
+        HttpStatus denied = deny(token);
+        if (denied != null)
+        {
+            return ResponseEntity.status(denied).build();
+        }
+
+        JavelinRefreshJob job = refreshJobs.submit(target, force);
+        return ResponseEntity.accepted().body(Map.of(
+                "jobId", job.getId(),
+                "events", "/admin/jobs/" + job.getId() + "/events",
+                "progress", job.progress()));
+    }
+
+    @GetMapping("/admin/jobs/{id}")
+    @ResponseBody
+    public ResponseEntity<JavelinRefreshJob.Progress> job(@PathVariable String id,
+                                                          @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token)
+    {
+        HttpStatus denied = deny(token);
+        if (denied != null)
+        {
+            return ResponseEntity.status(denied).build();
+        }
+
+        return refreshJobs.find(id)
+                .map(job -> ResponseEntity.ok(job.progress()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 작업 진행 상황 스트림 (Server-Sent Events) - 1초 간격, 작업 종료 시 마지막 이벤트 후 종료
+    @GetMapping(value = "/admin/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<Flux<ServerSentEvent<JavelinRefreshJob.Progress>>> jobEvents(@PathVariable String id,
+                                                                                       @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token)
+    {
+        HttpStatus denied = deny(token);
+        if (denied != null)
+        {
+            return ResponseEntity.status(denied).build();
+        }
+
+        return refreshJobs.find(id)
+                .map(job -> ResponseEntity.ok(Flux.interval(Duration.ZERO, Duration.ofSeconds(1))
+                        .map(tick -> job.progress())
+                        .takeUntil(progress -> job.isFinished())
+                        .map(progress -> ServerSentEvent.builder(progress)
+                                .id(job.getId())
+                                .event(progress.status().name().toLowerCase())
+                                .build())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 토큰이 설정되지 않으면 관리 API 자체를 노출하지 않음 (404)
+    private HttpStatus deny(String token)
+    {
+        String adminToken = javelinConfig.getRefresh().getAdminToken();
+        if (adminToken == null || adminToken.isBlank())
+        {
+            return HttpStatus.NOT_FOUND;
+        }
+        // 일정 시간 비교 (응답 시간으로 토큰을 추측하지 못하도록)
+        boolean matched = token != null && MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+        return matched ? null : HttpStatus.UNAUTHORIZED;
+    }
+}
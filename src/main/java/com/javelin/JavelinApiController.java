@@ -0,0 +1,140 @@
+package com.javelin;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class JavelinApiController
+{
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 5000;
+    private static final int DEFAULT_SEARCH_LIMIT = 50;
+    private static final int MAX_SEARCH_LIMIT = 500;
+
+    private final JavelinCatalog catalog;
+    private final JavelinArchiveIndex archiveIndex;
+    private final ObjectMapper objectMapper;
+
+    // 카탈로그 조회 - 필터/페이지 없이 요청하면 미리 직렬화/압축한 스냅샷을 그대로 전송
+    @GetMapping("/api/catalog")
+    @ResponseBody
+    public ResponseEntity<byte[]> getCatalog(@RequestParam(required = false) String category,
+                                             @RequestParam(required = false) String subcategory,
+                                             @RequestParam(required = false) String version,
+                                             @RequestParam(required = false) Long since,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                             @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+    {
+        JavelinCatalog.Snapshot snapshot = catalog.current();
+        if (since == null && category == null && subcategory == null && version == null && cursor == null && limit == null)
+        {
+            return snapshot.body().respond(ifNoneMatch, acceptEncoding);
+        }
+
+        // 변경분/페이지는 전체 본문과 다르므로 별도 ETag (같은 세대의 같은 URL 이면 결과가 같음)
+        String etag = "\"" + snapshot.generation() + (since != null ? "-delta" : "-page") + "\"";
+        ResponseEntity<byte[]> notModified = JavelinPrecompressed.notModifiedIfMatches(ifNoneMatch, etag);
+        if (notModified != null)
+        {
+            return notModified;
+        }
+        if (since != null)
+        {
+            return json(catalog.delta(snapshot, since), etag).respond(ifNoneMatch, acceptEncoding);
+        }
+
+        String after = decodeCursor(cursor);
+        if (cursor != null && after == null)
+        {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(MAX_PAGE_SIZE, limit));
+
+        List<JavelinCatalog.Entry> matched = snapshot.entries().stream()
+                .filter(entry -> after == null || entry.path().compareTo(after) > 0)
+                .filter(entry -> category == null || category.equalsIgnoreCase(entry.category()))
+                .filter(entry -> subcategory == null || subcategory.equalsIgnoreCase(entry.subcategory()))
+                .filter(entry -> version == null || matchesVersion(entry.version(), version))
+                .limit(pageSize + 1L)
+                .toList();
+
+        String nextCursor = null;
+        if (matched.size() > pageSize)
+        {
+            matched = matched.subList(0, pageSize);
+            nextCursor = encodeCursor(matched.get(pageSize - 1).path());
+        }
+
+        return json(new JavelinCatalog.Page(snapshot.generation(), matched, nextCursor), etag).respond(ifNoneMatch, acceptEncoding);
+    }
+
+    // 파일명/분류/확장 메타데이터 접두어 검색 (예: q=redhat ja → redhat.java)
+    @GetMapping("/api/search")
+    @ResponseBody
+    public JavelinArchiveIndex.SearchResult search(@RequestParam String q,
+                                                   @RequestParam(required = false) Integer limit)
+    {
+        int hitLimit = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(MAX_SEARCH_LIMIT, limit));
+        return archiveIndex.search(q, hitLimit);
+    }
+
+    // 버전 필터 - 정확히 일치하거나 상위 버전 구성요소가 일치 (예: 21 → 21.0.5)
+    private boolean matchesVersion(String entryVersion, String version)
+    {
+        return entryVersion != null && (entryVersion.equals(version) || entryVersion.startsWith(version + "."));
+    }
+
+    private JavelinPrecompressed json(Object body, String etag)
+    {
+        try
+        {
+            return new JavelinPrecompressed(objectMapper.writeValueAsBytes(body), MediaType.APPLICATION_JSON, etag);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new IllegalStateException("카탈로그 직렬화 실패", e);
+        }
+    }
+
+    private static String encodeCursor(String path)
+    {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor)
+    {
+        if (cursor == null)
+        {
+            return null;
+        }
+        try
+        {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.javelin;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// 아카이브 메타데이터 색인 - ZIP 중앙 디렉토리와 매니페스트만 읽어 검색용 역색인 구성 (압축 해제 없음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinArchiveIndex
+{
+    private static final String VSIX_MANIFEST = "extension/package.json";
+    private static final String JAR_MANIFEST = "META-INF/MANIFEST.MF";
+    private static final int MAX_MANIFEST_SIZE = 1024 * 1024;  // 매니페스트 최대 읽기 크기
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final JavelinConfig javelinConfig;
+    private final ObjectMapper objectMapper;
+    private final Scheduler blockingScheduler;
+    private final Map<String, Metadata> metadataCache = new HashMap<>();  // 내용 해시 → 메타데이터
+    private volatile Index index = new Index(0, new Hit[0], new String[0], new int[0][]);
+
+    // 아카이브에서 읽은 정보 (VSIX 는 package.json, 그 외 ZIP/JAR 은 최상위 MANIFEST.MF)
+    public record Metadata(String identifier, String displayName, String version, String engine, List<String> dependencies,
+                           String description, String rootDirectory, int entryCount, long uncompressedSize) {}
+
+    public record Hit(String path, String fileName, String url, String category, String version, long size, Metadata metadata) {}
+
+    public record SearchResult(long generation, String query, int total, List<Hit> hits) {}
+
+    // 정렬된 단어 배열과 단어별 문서 번호 목록 - 접두어 검색은 이진 탐색 후 연속 구간만 확인
+    private record Index(long generation, Hit[] documents, String[] terms, int[][] postings) {}
+
+    // 카탈로그가 바뀌면 백그라운드에서 다시 색인 (해시가 같은 파일은 다시 읽지 않음)
+    @EventListener
+    public void onCatalogUpdated(JavelinCatalog.Updated event)
+    {
+        Mono.fromRunnable(() -> rebuild(event.snapshot()))
+            .subscribeOn(blockingScheduler)
+            .subscribe(v -> {}, e -> log.error("아카이브 색인 실패: {}", e.getMessage(), e));
+    }
+
+    // 공백으로 구분한 모든 단어를 접두어로 포함하는 파일 검색
+    public SearchResult search(String query, int limit)
+    {
+        Index current = index;
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty())
+        {
+            return new SearchResult(current.generation(), query, 0, List.of());
+        }
+
+        BitSet result = null;
+        for (String term : queryTerms)
+        {
+            BitSet matched = new BitSet(current.documents().length);
+            int position = Arrays.binarySearch(current.terms(), term);
+            for (int i = position >= 0 ? position : -position - 1; i < current.terms().length && current.terms()[i].startsWith(term); i++)
+            {
+                for (int document : current.postings()[i])
+                {
+                    matched.set(document);
+                }
+            }
+
+            if (result == null)
+            {
+                result = matched;
+            }
+            else
+            {
+                result.and(matched);
+            }
+            if (result.isEmpty())
+            {
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(Math.min(limit, result.cardinality()));
+        for (int document = result.nextSetBit(0); document >= 0 && hits.size() < limit; document = result.nextSetBit(document + 1))
+        {
+            hits.add(current.documents()[document]);
+        }
+        return new SearchResult(current.generation(), query, result.cardinality(), hits);
+    }
+
+    private synchronized void rebuild(JavelinCatalog.Snapshot snapshot)
+    {
+        if (snapshot.generation() <= index.generation())
+        {
+            return;  // 더 최신 세대가 이미 색인됨
+        }
+
+        Path root = Paths.get(javelinConfig.getDownload().getPath());
+        Set<String> liveKeys = new LinkedHashSet<>();
+        Hit[] documents = new Hit[snapshot.entries().size()];
+        TreeMap<String, List<Integer>> termPostings = new TreeMap<>();
+        int read = 0;
+
+        for (int i = 0; i < documents.length; i++)
+        {
+            JavelinCatalog.Entry entry = snapshot.entries().get(i);
+            Metadata metadata = null;
+            if (isArchive(entry.fileName()))
+            {
+                String key = entry.sha256() != null ? entry.sha256() : entry.path() + ":" + entry.size() + ":" + entry.modified();
+                liveKeys.add(key);
+                metadata = metadataCache.get(key);
+                if (metadata == null && !metadataCache.containsKey(key))
+                {
+                    try
+                    {
+                        metadata = read(root.resolve(entry.path()), entry.fileName());
+                        metadataCache.put(key, metadata);
+                        read++;
+                    }
+                    catch (ZipException e)
+                    {
+                        // 같은 내용은 다시 읽어도 결과가 같으므로 아카이브가 아님을 기록
+                        log.warn("아카이브 형식이 아닙니다: {} ({})", entry.path(), e.getMessage());
+                        metadataCache.put(key, null);
+                    }
+                    catch (IOException e)
+                    {
+                        // 계층 이동 중 등 일시적인 실패는 기록하지 않고 다음 색인 때 다시 읽음
+                        log.warn("아카이브 읽기 실패: {} ({})", entry.path(), e.getMessage());
+                    }
+                }
+            }
+
+            documents[i] = new Hit(entry.path(), entry.fileName(), entry.url(), entry.category(), entry.version(), entry.size(), metadata);
+            for (String term : terms(documents[i]))
+            {
+                termPostings.computeIfAbsent(term, k -> new ArrayList<>()).add(i);
+            }
+        }
+        metadataCache.keySet().retainAll(liveKeys);
+
+        String[] terms = termPostings.keySet().toArray(new String[0]);
+        int[][] postings = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++)
+        {
+            postings[i] = termPostings.get(terms[i]).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        index = new Index(snapshot.generation(), documents, terms, postings);
+        log.info("아카이브 색인 갱신 - 세대 {}, 파일 {}건, 단어 {}개 (새로 읽은 아카이브 {}건)", snapshot.generation(), documents.length, terms.length, read);
+    }
+
+    private static boolean isArchive(String fileName)
+    {
+        String lowerFileName = fileName.toLowerCase(Locale.ROOT);
+        return lowerFileName.endsWith(".vsix") || lowerFileName.endsWith(".zip") || lowerFileName.endsWith(".jar");
+    }
+
+    // 항목 이름으로 내용을 읽음 (없으면 null)
+    @FunctionalInterface
+    private interface EntryReader
+    {
+        byte[] read(String name) throws IOException;
+    }
+
+    // 핫 파일은 ZipFile 로, 콜드 계층으로 옮겨진 파일은 .jcold 를 풀면서 순서대로 읽음
+    private Metadata read(Path path, String fileName) throws IOException
+    {
+        boolean vsix = fileName.toLowerCase(Locale.ROOT).endsWith(".vsix");
+        if (Files.isRegularFile(path))
+        {
+            return readZipFile(path, vsix);
+        }
+        Path cold = JavelinColdFile.coldPath(path);
+        if (Files.isRegularFile(cold))
+        {
+            return readColdFile(cold, vsix);
+        }
+        throw new NoSuchFileException(path.toString());
+    }
+
+    // ZipFile 은 끝부분의 중앙 디렉토리만 읽고, 개별 항목은 필요할 때 해당 위치만 읽음
+    private Metadata readZipFile(Path path, boolean vsix) throws IOException
+    {
+        try (ZipFile zip = new ZipFile(path.toFile()))
+        {
+            int entryCount = zip.size();
+            long uncompressedSize = 0;
+            String rootDirectory = null;
+            for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();)
+            {
+                ZipEntry zipEntry = entries.nextElement();
+                uncompressedSize += Math.max(0, zipEntry.getSize());
+                if (rootDirectory == null)
+                {
+                    rootDirectory = rootDirectory(zipEntry.getName());
+                }
+            }
+
+            EntryReader reader = name -> readEntry(zip, name);
+            return vsix ? readVsix(reader, rootDirectory, entryCount, uncompressedSize)
+                        : readManifest(reader, rootDirectory, entryCount, uncompressedSize);
+        }
+    }
+
+    // 콜드 파일은 임의 위치 읽기가 불가하므로 처음부터 순서대로 읽으며 매니페스트 후보만 보관 (내용 해시별 1회)
+    private Metadata readColdFile(Path cold, boolean vsix) throws IOException
+    {
+        try (ZipInputStream zip = new ZipInputStream(JavelinColdFile.open(cold)))
+        {
+            int entryCount = 0;
+            long uncompressedSize = 0;
+            String rootDirectory = null;
+            Map<String, byte[]> manifests = new HashMap<>();
+            for (ZipEntry zipEntry = zip.getNextEntry(); zipEntry != null; zipEntry = zip.getNextEntry())
+            {
+                entryCount++;
+                String name = zipEntry.getName();
+                if (rootDirectory == null)
+                {
+                    rootDirectory = rootDirectory(name);
+                }
+                if (!zipEntry.isDirectory() && (name.equals(VSIX_MANIFEST) || name.endsWith(JAR_MANIFEST)))
+                {
+                    byte[] content = zip.readNBytes(MAX_MANIFEST_SIZE);
+                    manifests.put(name, content);
+                    uncompressedSize += content.length;
+                }
+                uncompressedSize += zip.transferTo(OutputStream.nullOutputStream());
+            }
+            if (entryCount == 0)
+            {
+                throw new ZipException("ZIP 항목이 없습니다");
+            }
+
+            EntryReader reader = manifests::get;
+            return vsix ? readVsix(reader, rootDirectory, entryCount, uncompressedSize)
+                        : readManifest(reader, rootDirectory, entryCount, uncompressedSize);
+        }
+    }
+
+    private static String rootDirectory(String entryName)
+    {
+        int slash = entryName.indexOf('/');
+        return slash > 0 ? entryName.substring(0, slash) : "";
+    }
+
+    private Metadata readVsix(EntryReader zip, String rootDirectory, int entryCount, long uncompressedSize) throws IOException
+    {
+        byte[] manifest = zip.read(VSIX_MANIFEST);
+        if (manifest == null)
+        {
+            return new Metadata(null, null, null, null, List.of(), null, rootDirectory, entryCount, uncompressedSize);
+        }
+
+        JsonNode packageJson = objectMapper.readTree(manifest);
+        String name = packageJson.path("name").asText(null);
+        String publisher = packageJson.path("publisher").asText(null);
+        List<String> dependencies = new ArrayList<>();
+        packageJson.path("extensionDependencies").forEach(dependency -> dependencies.add(dependency.asText()));
+        packageJson.path("extensionPack").forEach(dependency -> dependencies.add(dependency.asText()));
+
+        return new Metadata(publisher != null && name != null ? publisher + "." + name : name,
+                packageJson.path("displayName").asText(name),
+                packageJson.path("version").asText(null),
+                packageJson.path("engines").path("vscode").asText(null),
+                List.copyOf(dependencies),
+                packageJson.path("description").asText(null),
+                rootDirectory, entryCount, uncompressedSize);
+    }
+
+    // 최상위(또는 단일 루트 디렉토리 아래) META-INF/MANIFEST.MF 의 Implementation 속성
+    private Metadata readManifest(EntryReader zip, String rootDirectory, int entryCount, long uncompressedSize) throws IOException
+    {
+        byte[] manifest = zip.read(JAR_MANIFEST);
+        if (manifest == null && rootDirectory != null && !rootDirectory.isEmpty())
+        {
+            manifest = zip.read(rootDirectory + "/" + JAR_MANIFEST);
+        }
+        if (manifest == null)
+        {
+            return new Metadata(null, rootDirectory, null, null, List.of(), null, rootDirectory, entryCount, uncompressedSize);
+        }
+
+        Attributes attributes = new Manifest(new ByteArrayInputStream(manifest)).getMainAttributes();
+        String title = attributes.getValue(Attributes.Name.IMPLEMENTATION_TITLE);
+        return new Metadata(attributes.getValue("Bundle-SymbolicName"),
+                title != null ? title : rootDirectory,
+                attributes.getValue(Attributes.Name.IMPLEMENTATION_VERSION),
+                null, List.of(), attributes.getValue("Bundle-Name"),
+                rootDirectory, entryCount, uncompressedSize);
+    }
+
+    private static byte[] readEntry(ZipFile zip, String name) throws IOException
+    {
+        ZipEntry zipEntry = zip.getEntry(name);
+        if (zipEntry == null || zipEntry.isDirectory() || zipEntry.getSize() > MAX_MANIFEST_SIZE)
+        {
+            return null;
+        }
+        try (InputStream in = zip.getInputStream(zipEntry))
+        {
+            return in.readNBytes(MAX_MANIFEST_SIZE);
+        }
+    }
+
+    // 검색 대상 단어 - 파일명, 분류, 버전과 아카이브 메타데이터
+    private static Set<String> terms(Hit hit)
+    {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(hit.fileName()));
+        terms.addAll(tokenize(hit.category()));
+        terms.addAll(tokenize(hit.version()));
+        Metadata metadata = hit.metadata();
+        if (metadata != null)
+        {
+            terms.addAll(tokenize(metadata.identifier()));
+            terms.addAll(tokenize(metadata.displayName()));
+            terms.addAll(tokenize(metadata.description()));
+            metadata.dependencies().forEach(dependency -> terms.addAll(tokenize(dependency)));
+        }
+        return terms;
+    }
+
+    private static List<String> tokenize(String text)
+    {
+        if (text == null || text.isBlank())
+        {
+            return List.of();
+        }
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
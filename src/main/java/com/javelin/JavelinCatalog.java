@@ -0,0 +1,375 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// 미러 파일 목록(카탈로그) - 분류/버전/크기/해시를 한 번만 계산하고 변경 시에만 세대(generation)를 올림
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinCatalog
+{
+    private static final int MAX_TOMBSTONES = 10000;  // 삭제 이력 보관 수
+    private static final Duration REFRESH_DEBOUNCE = Duration.ofSeconds(2);
+
+    private final JavelinConfig javelinConfig;
+    private final ObjectMapper objectMapper;
+    private final JavelinClassifier classifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Scheduler blockingScheduler;  // 검사/해시 계산용 (JavelinConfig.blockingScheduler)
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final LinkedHashMap<String, Long> tombstones = new LinkedHashMap<>();  // 삭제된 경로 → 삭제 세대
+    private final long bootGeneration = System.currentTimeMillis();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Object listingLock = new Object();  // 첫 목록 스냅샷을 한 번만 구성
+    private long oldestDeltaGeneration = bootGeneration;  // 갱신 잠금 안에서만 변경, 스냅샷에 복사해 게시
+
+    public record Entry(String path, String fileName, String url, String category, String subcategory, String description,
+                        String version, long size, String sizeLabel, String sha256, Instant modified, long generation) {}
+
+    // ready 가 false 이면 첫 검사 전에 목록만 읽어 게시한 스냅샷 (sha256 은 이후 검사에서 채움)
+    // oldestDeltaGeneration 이전 세대부터의 변경분은 삭제 이력이 없어 전체 목록으로 응답
+    public record Snapshot(long generation, List<Entry> entries, Map<String, Long> removed, long oldestDeltaGeneration,
+                           JavelinPrecompressed body, boolean ready) {}
+
+    public record Page(long generation, List<Entry> entries, String nextCursor) {}
+
+    public record Delta(long generation, long since, boolean full, List<Entry> changed, List<String> removed) {}
+
+    // 새 스냅샷 게시 이벤트 - 리스너는 갱신 잠금 안에서 호출되므로 오래 걸리는 작업은 별도 스레드에서 처리
+    public record Updated(Snapshot snapshot) {}
+
+    // 현재 스냅샷 - 첫 검사 전이면 디렉토리 목록만 읽어(해시 계산 없음) 바로 게시하고 해시는 백그라운드 검사에서 채움
+    // (요청 스레드에서 전체 파일 해시를 계산하거나 진행 중인 검사를 기다리지 않으면서 빈 목록을 내보내지 않도록 함)
+    public Snapshot current()
+    {
+        Snapshot current = snapshot.get();
+        if (current != null)
+        {
+            return current;
+        }
+        synchronized (listingLock)
+        {
+            current = snapshot.get();
+            if (current != null)
+            {
+                return current;
+            }
+            Snapshot listing = listing();
+            if (snapshot.compareAndSet(null, listing))
+            {
+                log.info("카탈로그 목록 게시 - 파일 {}건 (해시 계산 대기)", listing.entries().size());
+                requestRefresh();
+                return listing;
+            }
+            return snapshot.get();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady()
+    {
+        requestRefresh();
+    }
+
+    // 외부에서 변경된 파일 반영을 위한 주기적 재검사
+    @Scheduled(fixedDelayString = "${javelin.catalog.rescan-interval:PT5M}", initialDelayString = "${javelin.catalog.rescan-interval:PT5M}")
+    public void rescan()
+    {
+        refresh();
+    }
+
+    // 파일 게시 후 호출 - 짧은 시간 내 여러 요청은 한 번의 재검사로 합침
+    public void requestRefresh()
+    {
+        if (refreshPending.getAndSet(true))
+        {
+            return;
+        }
+        Mono.delay(REFRESH_DEBOUNCE)
+            .publishOn(blockingScheduler)  // 가상 스레드 스케줄러는 지연 실행을 지원하지 않으므로 타이머 후 전환
+            .doOnNext(tick -> {
+                refreshPending.set(false);
+                refresh();
+            })
+            .subscribe(tick -> {}, e -> log.error("카탈로그 갱신 실패: {}", e.getMessage(), e));
+    }
+
+    // since 세대 이후 변경분 (삭제 이력이 남아있지 않으면 전체)
+    public Delta delta(long since)
+    {
+        return delta(current(), since);
+    }
+
+    // 주어진 스냅샷 기준 변경분 - 응답 ETag 와 본문이 같은 스냅샷에서 나오도록 함 (갱신 잠금 없음)
+    public Delta delta(Snapshot current, long since)
+    {
+        if (since < current.oldestDeltaGeneration())
+        {
+            return new Delta(current.generation(), since, true, current.entries(), List.of());
+        }
+
+        List<Entry> changed = current.entries().stream()
+                .filter(entry -> entry.generation() > since)
+                .toList();
+        List<String> removed = current.removed().entrySet().stream()
+                .filter(removal -> removal.getValue() > since)
+                .map(Map.Entry::getKey)
+                .toList();
+        return new Delta(current.generation(), since, false, changed, removed);
+    }
+
+    public synchronized Snapshot refresh()
+    {
+        Path root = Paths.get(javelinConfig.getDownload().getPath());
+        Snapshot previous = snapshot.get();
+        Map<String, Entry> previousEntries = new HashMap<>();
+        if (previous != null)
+        {
+            previous.entries().forEach(entry -> previousEntries.put(entry.path(), entry));
+        }
+
+        long nextGeneration = Math.max(System.currentTimeMillis(), previous == null ? bootGeneration : previous.generation() + 1);
+        boolean hashed = previous != null && previous.ready();  // 목록 스냅샷의 항목은 해시가 없으므로 재사용하지 않음
+        List<Entry> entries;
+        try
+        {
+            entries = scan(root, hashed ? previousEntries : new HashMap<>(), nextGeneration, true);
+        }
+        catch (IOException e)
+        {
+            log.error("FILE FETCH ERROR!! {}", e.getMessage());
+            return previous != null ? previous : publish(List.of(), nextGeneration);
+        }
+        entries.forEach(entry -> previousEntries.remove(entry.path()));
+        boolean changed = !hashed || entries.stream().anyMatch(entry -> entry.generation() == nextGeneration);
+
+        if (!previousEntries.isEmpty())
+        {
+            previousEntries.keySet().forEach(path -> tombstones.put(path, nextGeneration));
+            changed = true;
+        }
+
+        if (!changed)
+        {
+            return previous;
+        }
+
+        entries.sort(Comparator.comparing(Entry::path));
+        entries.forEach(entry -> tombstones.remove(entry.path()));
+        while (tombstones.size() > MAX_TOMBSTONES)
+        {
+            Map.Entry<String, Long> eldest = tombstones.entrySet().iterator().next();
+            oldestDeltaGeneration = Math.max(oldestDeltaGeneration, eldest.getValue());
+            tombstones.remove(eldest.getKey());
+        }
+        return publish(entries, nextGeneration);
+    }
+
+    // 첫 검사 전 목록 스냅샷 - 디렉토리 목록과 분류만 구성 (콜드 파일은 헤더의 해시 사용)
+    private Snapshot listing()
+    {
+        List<Entry> entries;
+        try
+        {
+            entries = scan(Paths.get(javelinConfig.getDownload().getPath()), Map.of(), bootGeneration, false);
+        }
+        catch (IOException e)
+        {
+            log.error("FILE FETCH ERROR!! {}", e.getMessage());
+            entries = new ArrayList<>();
+        }
+        entries.sort(Comparator.comparing(Entry::path));
+        return build(entries, Map.of(), bootGeneration, bootGeneration, false);
+    }
+
+    // 디렉토리 검사 - 크기/수정 시각이 같은 기존 항목은 재사용, 새 항목은 generation 세대로 구성
+    // 검사 중 삭제/이동된 파일과 디렉토리(.part 완료 이동 등)는 건너뜀
+    private List<Entry> scan(Path root, Map<String, Entry> previousEntries, long generation, boolean hash) throws IOException
+    {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.isDirectory(root))
+        {
+            return entries;
+        }
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>()
+        {
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes attributes)
+            {
+                Entry entry = toEntry(root, path, attributes, previousEntries, generation, hash);
+                if (entry != null)
+                {
+                    entries.add(entry);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path path, IOException e) throws IOException
+            {
+                if (e instanceof NoSuchFileException)
+                {
+                    return FileVisitResult.CONTINUE;
+                }
+                throw e;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException
+            {
+                if (e != null && !(e instanceof NoSuchFileException))
+                {
+                    throw e;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return entries;
+    }
+
+    private Entry toEntry(Path root, Path path, BasicFileAttributes attributes, Map<String, Entry> previousEntries,
+                          long generation, boolean hash)
+    {
+        String relativePath = root.relativize(path).toString().replace('\\', '/');
+        if (!attributes.isRegularFile() || relativePath.endsWith(".part"))
+        {
+            return null;
+        }
+
+        // 콜드 계층 파일은 원래 경로로 표시 (핫 파일이 함께 있으면 핫 파일 우선)
+        boolean cold = relativePath.endsWith(JavelinColdFile.SUFFIX);
+        if (cold)
+        {
+            relativePath = relativePath.substring(0, relativePath.length() - JavelinColdFile.SUFFIX.length());
+            if (Files.exists(root.resolve(relativePath)))
+            {
+                return null;
+            }
+        }
+
+        // 콜드 파일은 원본 수정 시각을 유지하므로 이동 전후 항목이 그대로 재사용됨
+        Instant modified = attributes.lastModifiedTime().toInstant();
+        Entry existing = previousEntries.get(relativePath);
+        if (existing != null && (cold || existing.size() == attributes.size()) && existing.modified().equals(modified))
+        {
+            return existing;
+        }
+        return cold ? buildColdEntry(path, relativePath, modified, generation)
+                    : buildEntry(relativePath, attributes.size(), hash ? sha256(path) : null, modified, generation);
+    }
+
+    private Snapshot publish(List<Entry> entries, long generation)
+    {
+        Snapshot published = build(entries, new LinkedHashMap<>(tombstones), oldestDeltaGeneration, generation, true);
+        snapshot.set(published);
+        log.info("카탈로그 갱신 - 세대 {}, 파일 {}건", generation, published.entries().size());
+        eventPublisher.publishEvent(new Updated(published));
+        return published;
+    }
+
+    private Snapshot build(List<Entry> entries, Map<String, Long> removed, long oldestDeltaGeneration, long generation, boolean ready)
+    {
+        List<Entry> immutableEntries = List.copyOf(entries);
+        byte[] json;
+        try
+        {
+            json = objectMapper.writeValueAsBytes(new Page(generation, immutableEntries, null));
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException("카탈로그 직렬화 실패", e);
+        }
+        return new Snapshot(generation, immutableEntries, Collections.unmodifiableMap(removed), oldestDeltaGeneration,
+                new JavelinPrecompressed(json, MediaType.APPLICATION_JSON, "\"" + generation + "\""), ready);
+    }
+
+    private Entry buildEntry(String relativePath, long size, String sha256, Instant modified, long generation)
+    {
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        JavelinClassifier.Classification classification = classifier.classify(relativePath);
+
+        return new Entry(relativePath, fileName, "/getFile/" + relativePath, classification.category(), classification.subcategory(),
+                classification.description(), classification.version(), size, formatFileSize(size), sha256, modified, generation);
+    }
+
+    // 콜드 파일은 헤더의 원본 크기와 해시만 읽음 (압축 해제 없음)
+    private Entry buildColdEntry(Path path, String relativePath, Instant modified, long generation)
+    {
+        try
+        {
+            JavelinColdFile.Header header = JavelinColdFile.readHeader(path);
+            return buildEntry(relativePath, header.size(), header.sha256(), modified, generation);
+        }
+        catch (IOException e)
+        {
+            log.warn("콜드 파일 헤더 읽기 실패: {} ({})", path, e.getMessage());
+            return null;
+        }
+    }
+
+    static String formatFileSize(long bytes) {
+        String[] units = new String[] { "B", "KB", "MB", "GB", "TB" };
+        int unitIndex = 0;
+        double size = bytes;
+        while (size >= 1024 && unitIndex < units.length - 1) {
+            size /= 1024;
+            unitIndex++;
+        }
+        return String.format("%.1f %s", size, units[unitIndex]);
+    }
+
+    private String sha256(Path path)
+    {
+        try (DigestInputStream in = new DigestInputStream(Files.newInputStream(path), MessageDigest.getInstance("SHA-256")))
+        {
+            byte[] buffer = new byte[1024 * 1024];
+            while (in.read(buffer) != -1)
+            {
+                // 해시 계산을 위해 끝까지 읽음
+            }
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        }
+        catch (IOException | NoSuchAlgorithmException e)
+        {
+            log.warn("파일 해시 계산 실패: {}", path);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.javelin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 미러 파일 분류기 - javelin.classifier.rules 를 기동 시 한 번 컴파일 (고정 접두어 트라이 + 미리 컴파일한 정규식)
+@Slf4j
+@Component
+public class JavelinClassifier
+{
+    private static final String VERSION_PLACEHOLDER = "{version}";
+
+    private final Node root = new Node();
+    private final Pattern defaultVersion;
+    private final String unknownVersion;
+    private final Map<String, Integer> categoryOrders = new HashMap<>();
+
+    public record Classification(String category, String subcategory, String description, String version, int order) {}
+
+    // 컴파일된 규칙 - prefixOnly 이면 트라이 일치만으로 판정 (정규식 실행 없음)
+    private record CompiledRule(int index, String prefix, boolean prefixOnly, boolean crossDirectories, Pattern pattern,
+                                String category, String subcategory, String description, Pattern version, int order)
+    {
+        boolean matches(String lowerPath)
+        {
+            if (prefixOnly)
+            {
+                return crossDirectories || lowerPath.indexOf('/', prefix.length()) < 0;
+            }
+            return pattern.matcher(lowerPath).matches();
+        }
+    }
+
+    // 접두어 트라이 노드 - candidates 는 이 노드까지의 접두어를 가진 규칙 전체 (규칙 순서대로)
+    private static final class Node
+    {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private final List<CompiledRule> rules = new ArrayList<>();
+        private CompiledRule[] candidates;
+
+        Node child(char key)
+        {
+            for (int i = 0; i < keys.length; i++)
+            {
+                if (keys[i] == key)
+                {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node addChild(char key)
+        {
+            Node child = child(key);
+            if (child == null)
+            {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+
+    public JavelinClassifier(JavelinConfig javelinConfig)
+    {
+        JavelinConfig.Classifier classifier = javelinConfig.getClassifier();
+        this.defaultVersion = Pattern.compile(classifier.getVersionPattern());
+        this.unknownVersion = classifier.getUnknownVersion();
+
+        List<JavelinConfig.Rule> rules = classifier.getRules();
+        for (int i = 0; i < rules.size(); i++)
+        {
+            CompiledRule rule = compile(i, rules.get(i));
+            Node node = root;
+            for (int c = 0; c < rule.prefix().length(); c++)
+            {
+                node = node.addChild(rule.prefix().charAt(c));
+            }
+            node.rules.add(rule);
+            categoryOrders.merge(rule.category(), rule.order(), Math::min);
+        }
+        link(root, List.of());
+        log.info("파일 분류 규칙 {}건 컴파일", rules.size());
+    }
+
+    // 미러 기준 상대 경로로 분류/버전 결정 - 첫 번째로 일치하는 규칙 사용
+    public Classification classify(String relativePath)
+    {
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        String lowerPath = relativePath.toLowerCase(Locale.ROOT);
+
+        Node node = root;
+        for (int i = 0; i < lowerPath.length(); i++)
+        {
+            Node next = node.child(lowerPath.charAt(i));
+            if (next == null)
+            {
+                break;
+            }
+            node = next;
+        }
+
+        for (CompiledRule rule : node.candidates)
+        {
+            if (rule.matches(lowerPath))
+            {
+                String version = extractVersion(rule.version() != null ? rule.version() : defaultVersion, fileName);
+                String subcategory = rule.subcategory();
+                if (subcategory != null && subcategory.contains(VERSION_PLACEHOLDER))
+                {
+                    subcategory = subcategory.replace(VERSION_PLACEHOLDER, version);
+                }
+                return new Classification(rule.category(), subcategory, rule.description(), version, rule.order());
+            }
+        }
+        return new Classification(null, null, null, extractVersion(defaultVersion, fileName), Integer.MAX_VALUE);
+    }
+
+    // 분류 화면 표시 순서 (규칙이 없는 분류는 마지막)
+    public int categoryOrder(String category)
+    {
+        return categoryOrders.getOrDefault(category, Integer.MAX_VALUE);
+    }
+
+    private String extractVersion(Pattern pattern, String fileName)
+    {
+        Matcher matcher = pattern.matcher(fileName);
+        if (!matcher.find())
+        {
+            return unknownVersion;
+        }
+        return matcher.groupCount() > 0 && matcher.group(1) != null ? matcher.group(1) : matcher.group();
+    }
+
+    // 상위 노드의 후보 규칙을 하위 노드로 내려 조회 시 가장 깊은 노드 하나만 보면 되도록 함
+    private void link(Node node, List<CompiledRule> inherited)
+    {
+        List<CompiledRule> candidates = new ArrayList<>(inherited);
+        candidates.addAll(node.rules);
+        candidates.sort(Comparator.comparingInt(CompiledRule::index));
+        node.candidates = candidates.toArray(new CompiledRule[0]);
+        for (Node child : node.children)
+        {
+            link(child, candidates);
+        }
+    }
+
+    private CompiledRule compile(int index, JavelinConfig.Rule rule)
+    {
+        boolean hasGlob = rule.getGlob() != null && !rule.getGlob().isBlank();
+        boolean hasRegex = rule.getRegex() != null && !rule.getRegex().isBlank();
+        if (hasGlob == hasRegex || rule.getCategory() == null)
+        {
+            throw new IllegalStateException("분류 규칙 #" + index + " 은 glob/regex 중 하나와 category 가 필요합니다: " + rule);
+        }
+
+        Pattern version = rule.getVersion() == null ? null : Pattern.compile(rule.getVersion());
+        int order = rule.getOrder() != null ? rule.getOrder() : index;
+
+        // 정규식 규칙은 고정 접두어가 없으므로 트라이 루트에서 항상 검사 (소문자 경로에 대소문자 무시로 적용)
+        if (hasRegex)
+        {
+            return new CompiledRule(index, "", false, false, Pattern.compile(rule.getRegex(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE),
+                    rule.getCategory(), rule.getSubcategory(), rule.getDescription(), version, order);
+        }
+
+        String glob = rule.getGlob().toLowerCase(Locale.ROOT);
+        int wildcard = firstWildcard(glob);
+        String prefix = glob.substring(0, wildcard);
+        String rest = glob.substring(wildcard);
+
+        // "접두어*" 또는 "접두어**" 형태는 트라이만으로 판정
+        if (rest.equals("*") || rest.equals("**") || rest.isEmpty())
+        {
+            Pattern exact = rest.isEmpty() ? Pattern.compile(Pattern.quote(prefix)) : null;
+            return new CompiledRule(index, prefix, exact == null, rest.equals("**"), exact,
+                    rule.getCategory(), rule.getSubcategory(), rule.getDescription(), version, order);
+        }
+
+        return new CompiledRule(index, prefix, false, false, Pattern.compile(globToRegex(glob)),
+                rule.getCategory(), rule.getSubcategory(), rule.getDescription(), version, order);
+    }
+
+    // 다른 기능에서 같은 glob 규칙을 쓰기 위한 컴파일 (소문자로 바꾼 상대 경로에 적용)
+    static Pattern compileGlob(String glob)
+    {
+        return Pattern.compile(globToRegex(glob.toLowerCase(Locale.ROOT)));
+    }
+
+    private static int firstWildcard(String glob)
+    {
+        for (int i = 0; i < glob.length(); i++)
+        {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?')
+            {
+                return i;
+            }
+        }
+        return glob.length();
+    }
+
+    // glob → 정규식 (* 는 / 를 넘지 않음, ** 는 / 포함, ? 는 한 글자)
+    private static String globToRegex(String glob)
+    {
+        StringBuilder regex = new StringBuilder(glob.length() * 2);
+        for (int i = 0; i < glob.length(); i++)
+        {
+            char c = glob.charAt(i);
+            if (c == '*')
+            {
+                if (i + 1 < glob.length() && glob.charAt(i + 1) == '*')
+                {
+                    regex.append(".*");
+                    i++;
+                }
+                else
+                {
+                    regex.append("[^/]*");
+                }
+            }
+            else if (c == '?')
+            {
+                regex.append("[^/]");
+            }
+            else
+            {
+                if ("\\.[]{}()<>+-=!^$|".indexOf(c) >= 0)
+                {
+                    regex.append('\\');
+                }
+                regex.append(c);
+            }
+        }
+        return regex.toString();
+    }
+}
@@ -0,0 +1,401 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.core.io.AbstractResource;
+
+// 콜드 계층 파일 형식 - 고정 크기 프레임별로 독립 압축(deflate)하고 프레임 색인을 두어 임의 위치부터 풀 수 있음
+//
+// [헤더 64B] magic(8) 원본크기(8) 원본수정시각(8) 프레임크기(4) 프레임수(4) sha256(32)
+// [색인 16B x 프레임수] 위치(8) 길이(4) 비압축여부(4)
+// [프레임 데이터] 압축해도 줄지 않는 프레임은 원본 그대로 저장
+final class JavelinColdFile
+{
+    static final String SUFFIX = ".jcold";
+
+    private static final long MAGIC = 0x4A434F4C44310000L;  // "JCOLD1"
+    private static final int HEADER_SIZE = 64;
+    private static final int INDEX_ENTRY_SIZE = 16;
+
+    private JavelinColdFile()
+    {
+    }
+
+    record Header(long size, long modifiedMillis, int frameSize, int frameCount, String sha256,
+                  long[] offsets, int[] lengths, boolean[] stored) {}
+
+    static Path coldPath(Path hotPath)
+    {
+        return hotPath.resolveSibling(hotPath.getFileName() + SUFFIX);
+    }
+
+    // 앞쪽 일부 프레임만 압축해 절감률 추정 (이미 압축된 설치 파일/아카이브는 빨리 제외)
+    static double estimateSaving(Path source, int frameSize, int sampleFrames) throws IOException
+    {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ))
+        {
+            byte[] raw = new byte[frameSize];
+            byte[] compressed = new byte[frameSize];
+            Deflater deflater = new Deflater();
+            try
+            {
+                long rawTotal = 0;
+                long compressedTotal = 0;
+                for (int frame = 0; frame < sampleFrames && (long) frame * frameSize < in.size(); frame++)
+                {
+                    int length = readFrame(in, raw, (long) frame * frameSize, frameSize);
+                    rawTotal += length;
+                    compressedTotal += Math.min(length, deflate(deflater, raw, length, compressed));
+                }
+                return rawTotal == 0 ? 0 : 1.0 - (double) compressedTotal / rawTotal;
+            }
+            finally
+            {
+                deflater.end();
+            }
+        }
+    }
+
+    // source 를 콜드 형식으로 target 에 기록하고 기록한 크기를 반환
+    static long compress(Path source, Path target, int frameSize, String sha256) throws IOException
+    {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+        {
+            long size = in.size();
+            int frameCount = (int) ((size + frameSize - 1) / frameSize);
+            long position = HEADER_SIZE + (long) frameCount * INDEX_ENTRY_SIZE;
+            ByteBuffer index = ByteBuffer.allocate(frameCount * INDEX_ENTRY_SIZE);
+            byte[] raw = new byte[frameSize];
+            byte[] compressed = new byte[frameSize];
+            Deflater deflater = new Deflater();
+            try
+            {
+                for (int frame = 0; frame < frameCount; frame++)
+                {
+                    int length = readFrame(in, raw, (long) frame * frameSize, frameSize);
+                    int compressedLength = deflate(deflater, raw, length, compressed);
+                    boolean stored = compressedLength >= length;
+                    ByteBuffer data = stored ? ByteBuffer.wrap(raw, 0, length) : ByteBuffer.wrap(compressed, 0, compressedLength);
+                    int dataLength = data.remaining();
+                    writeFully(out, data, position);
+                    index.putLong(position).putInt(dataLength).putInt(stored ? 1 : 0);
+                    position += dataLength;
+                }
+            }
+            finally
+            {
+                deflater.end();
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putLong(MAGIC)
+                    .putLong(size)
+                    .putLong(Files.getLastModifiedTime(source).toMillis())
+                    .putInt(frameSize)
+                    .putInt(frameCount)
+                    .put(sha256 != null ? HexFormat.of().parseHex(sha256) : new byte[32]);
+            writeFully(out, header.flip(), 0);
+            writeFully(out, index.flip(), HEADER_SIZE);
+            out.force(true);
+            return position;
+        }
+    }
+
+    static Header readHeader(Path cold) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(cold, StandardOpenOption.READ))
+        {
+            return readHeader(channel, cold);
+        }
+    }
+
+    // 원본 내용을 순서대로 읽는 스트림 (skip 은 프레임 색인으로 바로 이동)
+    static InputStream open(Path cold) throws IOException
+    {
+        FileChannel channel = FileChannel.open(cold, StandardOpenOption.READ);
+        try
+        {
+            return new FrameInputStream(channel, readHeader(channel, cold));
+        }
+        catch (IOException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static Header readHeader(FileChannel channel, Path cold) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        header.flip();
+        if (header.getLong() != MAGIC)
+        {
+            throw new IOException("콜드 파일 형식이 아닙니다: " + cold);
+        }
+        long size = header.getLong();
+        long modifiedMillis = header.getLong();
+        int frameSize = header.getInt();
+        int frameCount = header.getInt();
+        if (size < 0 || frameSize <= 0 || frameCount != (size + frameSize - 1) / frameSize)
+        {
+            throw new IOException("콜드 파일 헤더 손상: " + cold);
+        }
+        byte[] digest = new byte[32];
+        header.get(digest);
+        boolean hasDigest = false;
+        for (byte b : digest)
+        {
+            hasDigest |= b != 0;
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(frameCount * INDEX_ENTRY_SIZE);
+        readFully(channel, index, HEADER_SIZE);
+        index.flip();
+        long[] offsets = new long[frameCount];
+        int[] lengths = new int[frameCount];
+        boolean[] stored = new boolean[frameCount];
+        long dataStart = HEADER_SIZE + (long) frameCount * INDEX_ENTRY_SIZE;
+        long fileSize = channel.size();
+        for (int frame = 0; frame < frameCount; frame++)
+        {
+            offsets[frame] = index.getLong();
+            lengths[frame] = index.getInt();
+            stored[frame] = index.getInt() != 0;
+
+            // 프레임이 데이터 영역 안에 있고, 원본 저장 프레임은 원본 크기와 같아야 함
+            int expected = (int) Math.min(frameSize, size - (long) frame * frameSize);
+            if (offsets[frame] < dataStart || lengths[frame] <= 0 || lengths[frame] > frameSize
+                    || offsets[frame] + lengths[frame] > fileSize || (stored[frame] && lengths[frame] != expected))
+            {
+                throw new IOException("콜드 파일 색인 손상: " + cold + " (프레임 " + frame + ")");
+            }
+        }
+        return new Header(size, modifiedMillis, frameSize, frameCount, hasDigest ? HexFormat.of().formatHex(digest) : null,
+                offsets, lengths, stored);
+    }
+
+    // 출력 버퍼를 넘으면 압축 이득이 없으므로 버퍼 크기를 반환 (원본 저장)
+    private static int deflate(Deflater deflater, byte[] raw, int length, byte[] compressed)
+    {
+        deflater.reset();
+        deflater.setInput(raw, 0, length);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished() && compressedLength < compressed.length)
+        {
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+        return deflater.finished() ? compressedLength : compressed.length;
+    }
+
+    private static int readFrame(FileChannel in, byte[] buffer, long position, int frameSize) throws IOException
+    {
+        int length = (int) Math.min(frameSize, in.size() - position);
+        readFully(in, ByteBuffer.wrap(buffer, 0, length), position);
+        return length;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            int read = channel.read(buffer, position);
+            if (read < 0)
+            {
+                throw new IOException("파일이 예상보다 짧습니다");
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    // 프레임 단위로 풀면서 읽는 스트림 - 현재 프레임 하나만 메모리에 유지
+    private static final class FrameInputStream extends InputStream
+    {
+        private final FileChannel channel;
+        private final Header header;
+        private final Inflater inflater = new Inflater();
+        private final byte[] frameData;
+        private byte[] compressed = new byte[0];
+        private int loadedFrame = -1;
+        private int frameLength;
+        private long position;
+
+        FrameInputStream(FileChannel channel, Header header)
+        {
+            this.channel = channel;
+            this.header = header;
+            this.frameData = new byte[header.frameSize()];
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException
+        {
+            if (length == 0)
+            {
+                return 0;
+            }
+            if (position >= header.size())
+            {
+                return -1;
+            }
+            int frame = (int) (position / header.frameSize());
+            if (frame != loadedFrame)
+            {
+                loadFrame(frame);
+            }
+            int offsetInFrame = (int) (position - (long) frame * header.frameSize());
+            int count = Math.min(length, frameLength - offsetInFrame);
+            System.arraycopy(frameData, offsetInFrame, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        // Range 요청 시작 위치로 이동 - 건너뛴 프레임은 풀지 않음
+        @Override
+        public long skip(long n)
+        {
+            long target = Math.min(header.size(), position + Math.max(0, n));
+            long skipped = target - position;
+            position = target;
+            return skipped;
+        }
+
+        @Override
+        public int available()
+        {
+            if (loadedFrame < 0 || position >= header.size())
+            {
+                return 0;
+            }
+            return (int) Math.max(0, (long) loadedFrame * header.frameSize() + frameLength - position);
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            inflater.end();
+            channel.close();
+        }
+
+        private void loadFrame(int frame) throws IOException
+        {
+            int expected = (int) Math.min(header.frameSize(), header.size() - (long) frame * header.frameSize());
+            int length = header.lengths()[frame];
+            if (header.stored()[frame])
+            {
+                readFully(channel, ByteBuffer.wrap(frameData, 0, length), header.offsets()[frame]);
+                frameLength = length;
+            }
+            else
+            {
+                if (compressed.length < length)
+                {
+                    compressed = new byte[length];
+                }
+                readFully(channel, ByteBuffer.wrap(compressed, 0, length), header.offsets()[frame]);
+                inflater.reset();
+                inflater.setInput(compressed, 0, length);
+                try
+                {
+                    frameLength = 0;
+                    while (!inflater.finished() && frameLength < expected)
+                    {
+                        int inflated = inflater.inflate(frameData, frameLength, expected - frameLength);
+                        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                        {
+                            break;
+                        }
+                        frameLength += inflated;
+                    }
+                }
+                catch (DataFormatException e)
+                {
+                    throw new IOException("콜드 파일 프레임 손상: " + frame, e);
+                }
+            }
+            if (frameLength != expected)
+            {
+                throw new IOException("콜드 파일 프레임 크기 불일치: " + frame);
+            }
+            loadedFrame = frame;
+        }
+    }
+
+    // 서빙용 리소스 - 원본 크기를 Content-Length 로 알리고, Range 요청은 skip 으로 해당 프레임부터 풀어서 전송
+    static final class ColdResource extends AbstractResource
+    {
+        private final Path cold;
+        private final Header header;
+        private final String fileName;
+
+        ColdResource(Path cold, Header header, String fileName)
+        {
+            this.cold = cold;
+            this.header = header;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public boolean exists()
+        {
+            return Files.exists(cold);
+        }
+
+        @Override
+        public long contentLength()
+        {
+            return header.size();
+        }
+
+        @Override
+        public long lastModified()
+        {
+            return header.modifiedMillis();
+        }
+
+        @Override
+        public String getFilename()
+        {
+            return fileName;
+        }
+
+        @Override
+        public String getDescription()
+        {
+            return "cold file [" + cold + "]";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException
+        {
+            return open(cold);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// 계층 저장 - 오래 요청되지 않은 파일은 프레임 단위로 압축해 콜드 계층(.jcold)으로 옮기고, 다시 자주 요청되면 핫 계층으로 복원
+// 핫 파일 서빙 경로는 그대로 두고(추가 파일 검사 없음), 핫 파일이 없을 때만 콜드 파일을 풀면서 전송
+@Slf4j
+@Component
+public class JavelinColdStorage
+{
+    private static final int SAMPLE_FRAMES = 4;  // 압축 이득 추정에 사용할 앞쪽 프레임 수
+
+    private final JavelinConfig javelinConfig;
+    private final JavelinCatalog catalog;
+    private final ObjectMapper objectMapper;
+    private final Scheduler blockingScheduler;
+    private final Map<String, Long> lastAccess = new ConcurrentHashMap<>();  // 상대 경로 → 마지막 요청 시각
+    private final Set<String> incompressible = ConcurrentHashMap.newKeySet();  // 압축 이득이 없던 내용 (해시 기준)
+    private final Map<String, AtomicInteger> coldHits = new ConcurrentHashMap<>();
+    private final Set<String> promoting = ConcurrentHashMap.newKeySet();
+    private final Counter demotedBytes;
+    private final Counter savedBytes;
+    private final Counter promotedBytes;
+
+    // 재시작 후에도 유휴 기간을 이어서 판단하기 위해 보관하는 상태
+    public record State(Map<String, Long> lastAccess, Set<String> incompressible) {}
+
+    public JavelinColdStorage(JavelinConfig javelinConfig, JavelinCatalog catalog, ObjectMapper objectMapper,
+                              Scheduler blockingScheduler, MeterRegistry meterRegistry)
+    {
+        this.javelinConfig = javelinConfig;
+        this.catalog = catalog;
+        this.objectMapper = objectMapper;
+        this.blockingScheduler = blockingScheduler;
+        this.demotedBytes = Counter.builder("javelin.tiering.demoted.bytes")
+                .description("콜드 계층으로 옮긴 원본 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.savedBytes = Counter.builder("javelin.tiering.saved.bytes")
+                .description("콜드 계층 이동으로 줄어든 디스크 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.promotedBytes = Counter.builder("javelin.tiering.promoted.bytes")
+                .description("핫 계층으로 복원한 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init()
+    {
+        Path stateFile = Paths.get(javelinConfig.getTiering().getStateFile());
+        if (!Files.exists(stateFile))
+        {
+            return;
+        }
+        try
+        {
+            State state = objectMapper.readValue(stateFile.toFile(), State.class);
+            if (state.lastAccess() != null)
+            {
+                lastAccess.putAll(state.lastAccess());
+            }
+            if (state.incompressible() != null)
+            {
+                incompressible.addAll(state.incompressible());
+            }
+        }
+        catch (IOException e)
+        {
+            log.warn("계층 저장 상태 읽기 실패: {} ({})", stateFile, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void destroy()
+    {
+        saveState();
+    }
+
+    // 핫 파일 요청 기록 - 계층 저장을 사용할 때만, 존재하는 파일에 대해서만 호출됨 (파일 검사 없음)
+    public void recordAccess(Path filePath)
+    {
+        if (!javelinConfig.getTiering().isEnabled())
+        {
+            return;
+        }
+        String relativePath = relativize(filePath);
+        if (relativePath != null)
+        {
+            lastAccess.put(relativePath, System.currentTimeMillis());
+        }
+    }
+
+    // 핫 파일이 없을 때만 호출 - 콜드 파일이 있으면 풀면서 읽는 리소스, 없으면 null
+    // 계층 저장을 끈 뒤에도 남아 있는 콜드 파일은 계속 전송
+    public Resource findCold(Path filePath) throws IOException
+    {
+        Path coldPath = JavelinColdFile.coldPath(filePath);
+        if (!Files.exists(coldPath))
+        {
+            return null;
+        }
+
+        String relativePath = relativize(filePath);
+        if (javelinConfig.getTiering().isEnabled() && relativePath != null)
+        {
+            lastAccess.put(relativePath, System.currentTimeMillis());
+            countColdHit(relativePath, filePath, coldPath);
+        }
+        return new JavelinColdFile.ColdResource(coldPath, JavelinColdFile.readHeader(coldPath), filePath.getFileName().toString());
+    }
+
+    // 유휴 기간이 지난 파일을 콜드 계층으로 이동 (요청 이력이 없으면 게시 시각부터 계산)
+    @Scheduled(fixedDelayString = "${javelin.tiering.interval:PT1H}", initialDelayString = "${javelin.tiering.interval:PT1H}")
+    public void tier()
+    {
+        JavelinConfig.Tiering tiering = javelinConfig.getTiering();
+        if (!tiering.isEnabled())
+        {
+            return;
+        }
+
+        Path root = Paths.get(javelinConfig.getDownload().getPath());
+        long cutoff = System.currentTimeMillis() - tiering.getColdAfter().toMillis();
+        JavelinCatalog.Snapshot snapshot = catalog.current();
+        if (!snapshot.ready())
+        {
+            return;  // 해시 없는 첫 목록 스냅샷으로 이력을 정리하지 않도록 함
+        }
+        int moved = 0;
+        for (JavelinCatalog.Entry entry : snapshot.entries())
+        {
+            long accessed = lastAccess.getOrDefault(entry.path(), entry.modified().toEpochMilli());
+            String contentKey = entry.sha256() != null ? entry.sha256() : entry.path() + ":" + entry.size();
+            if (accessed >= cutoff || entry.size() < tiering.getMinSize().toBytes() || incompressible.contains(contentKey))
+            {
+                continue;
+            }
+
+            Path hot = root.resolve(entry.path());
+            if (!Files.isRegularFile(hot))
+            {
+                continue;  // 이미 콜드 계층
+            }
+            try
+            {
+                if (demote(hot, entry.path(), contentKey))
+                {
+                    moved++;
+                }
+            }
+            catch (IOException e)
+            {
+                log.warn("콜드 계층 이동 실패: {} ({})", entry.path(), e.getMessage());
+            }
+        }
+
+        // 삭제된 파일 이력 정리
+        Set<String> live = snapshot.entries().stream().map(JavelinCatalog.Entry::path).collect(Collectors.toSet());
+        lastAccess.keySet().retainAll(live);
+        Set<String> liveKeys = snapshot.entries().stream()
+                .map(entry -> entry.sha256() != null ? entry.sha256() : entry.path() + ":" + entry.size())
+                .collect(Collectors.toSet());
+        incompressible.retainAll(liveKeys);
+
+        if (moved > 0)
+        {
+            catalog.requestRefresh();
+        }
+        saveState();
+    }
+
+    private boolean demote(Path hot, String relativePath, String contentKey) throws IOException
+    {
+        long started = System.currentTimeMillis();
+        JavelinConfig.Tiering tiering = javelinConfig.getTiering();
+        int frameSize = (int) tiering.getFrameSize().toBytes();
+        if (JavelinColdFile.estimateSaving(hot, frameSize, SAMPLE_FRAMES) < tiering.getMinSaving())
+        {
+            incompressible.add(contentKey);
+            return false;
+        }
+
+        Path cold = JavelinColdFile.coldPath(hot);
+        Path part = cold.resolveSibling(cold.getFileName() + ".part");
+        FileTime modified = Files.getLastModifiedTime(hot);
+        long size = Files.size(hot);
+        String sha256 = contentKey.contains(":") ? null : contentKey;
+        long compressedSize = JavelinColdFile.compress(hot, part, frameSize, sha256);
+        if (compressedSize > size * (1 - tiering.getMinSaving()))
+        {
+            Files.deleteIfExists(part);
+            incompressible.add(contentKey);
+            return false;
+        }
+
+        // 압축하는 동안 요청된 파일은 핫 계층에 그대로 둠
+        if (lastAccess.getOrDefault(relativePath, 0L) >= started)
+        {
+            Files.deleteIfExists(part);
+            log.info("압축 중 요청되어 콜드 계층 이동 취소 - {}", relativePath);
+            return false;
+        }
+
+        // 원본 수정 시각을 유지해 카탈로그 항목과 ETag 가 바뀌지 않도록 함
+        Files.setLastModifiedTime(part, modified);
+        Files.move(part, cold, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(hot);
+        demotedBytes.increment(size);
+        savedBytes.increment(size - compressedSize);
+        log.info("콜드 계층 이동 - {} : {} → {}", hot, JavelinCatalog.formatFileSize(size), JavelinCatalog.formatFileSize(compressedSize));
+        return true;
+    }
+
+    // 콜드 파일 요청 횟수가 기준에 도달하면 백그라운드로 핫 계층 복원
+    private void countColdHit(String relativePath, Path hot, Path cold)
+    {
+        int hits = coldHits.computeIfAbsent(relativePath, path -> new AtomicInteger()).incrementAndGet();
+        if (hits < javelinConfig.getTiering().getPromoteAfter() || !promoting.add(relativePath))
+        {
+            return;
+        }
+        Mono.fromCallable(() -> promote(hot, cold))
+            .subscribeOn(blockingScheduler)
+            .doFinally(signal -> {
+                promoting.remove(relativePath);
+                coldHits.remove(relativePath);
+            })
+            .subscribe(promotedBytes::increment, e -> log.warn("핫 계층 복원 실패: {} ({})", relativePath, e.getMessage()));
+    }
+
+    private long promote(Path hot, Path cold) throws IOException
+    {
+        Path part = hot.resolveSibling(hot.getFileName() + ".promote.part");
+        FileTime modified = Files.getLastModifiedTime(cold);
+        long size;
+        try (InputStream in = JavelinColdFile.open(cold))
+        {
+            size = Files.copy(in, part, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.setLastModifiedTime(part, modified);
+        Files.move(part, hot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(cold);  // 전송 중인 요청은 열린 파일로 계속 읽음
+        catalog.requestRefresh();
+        log.info("핫 계층 복원 - {} : {}", hot, JavelinCatalog.formatFileSize(size));
+        return size;
+    }
+
+    private String relativize(Path filePath)
+    {
+        Path root = Paths.get(javelinConfig.getDownload().getPath()).toAbsolutePath().normalize();
+        Path file = filePath.toAbsolutePath().normalize();
+        if (!file.startsWith(root))
+        {
+            return null;
+        }
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private void saveState()
+    {
+        if (!javelinConfig.getTiering().isEnabled())
+        {
+            return;
+        }
+        Path stateFile = Paths.get(javelinConfig.getTiering().getStateFile());
+        Path part = stateFile.resolveSibling(stateFile.getFileName() + ".part");
+        try
+        {
+            objectMapper.writeValue(part.toFile(), new State(Map.copyOf(lastAccess), new HashSet<>(incompressible)));
+            Files.move(part, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            log.warn("계층 저장 상태 기록 실패: {} ({})", stateFile, e.getMessage());
+        }
+    }
+}
@@ -7,16 +7,29 @@ import org.springframework.context.annotation.Configuration;
 import java.time.Duration;
 import java.util.Objects;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+
 import io.netty.channel.ChannelOption;
 import io.netty.resolver.DefaultAddressResolverGroup;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
 @Configuration
 @ConfigurationProperties(prefix = "javelin")
@@ -32,6 +45,12 @@ public class JavelinConfig
     private Urls git;
     private Urls postman;
     private SpringToolSuite springToolSuite;
+    private VersionCache versionCache = new VersionCache();
+    private Refresh refresh = new Refresh();
+    private Classifier classifier = new Classifier();
+    private Serving serving = new Serving();
+    private Warmup warmup = new Warmup();
+    private Tiering tiering = new Tiering();
 
     @Data
     public static class Download
@@ -39,6 +58,8 @@ public class JavelinConfig
         private boolean enable = true;  // 기본값은 true
         private boolean clear = true;  // 기본값은 true
         private String path = "download/";  // 기본 경로
+        private Transfer transfer = new Transfer();
+        private Writer writer = new Writer();
         
         public void setPath(String path)
         {
@@ -50,6 +71,29 @@ public class JavelinConfig
         }
     }
 
+    @Data
+    public static class Transfer
+    {
+        private Duration connectTimeout = Duration.ofSeconds(10);  // 연결 타임아웃
+        private Duration minFirstByteTimeout = Duration.ofSeconds(5);  // 첫 바이트 타임아웃 하한
+        private Duration maxFirstByteTimeout = Duration.ofSeconds(60);  // 첫 바이트 타임아웃 상한 (응답 이력이 없는 호스트)
+        private double latencyFactor = 4.0;  // 호스트 지연 편차 가중치
+        private Duration idleTimeout = Duration.ofSeconds(20);  // DataBuffer 사이 유휴 타임아웃
+        private DataSize minRate = DataSize.ofKilobytes(32);  // 초당 최소 전송량
+        private Duration rateWindow = Duration.ofSeconds(15);  // 전송 속도 측정 구간
+        private int maxRetries = 5;  // 정체 시 이어받기 재시도 횟수
+    }
+
+    @Data
+    public static class Writer
+    {
+        private DataSize chunkSize = DataSize.ofMegabytes(1);  // 디스크 쓰기 묶음 크기 (4KB 단위로 정렬)
+        private int poolSize = 32;  // 재사용할 다이렉트 버퍼 수
+        private int prefetch = 64;  // 쓰기 대기 중인 최대 수신 버퍼 수 (초과 시 네트워크 읽기 중단)
+        private int threads = 4;  // 쓰기 전용 스레드 수
+        private boolean preallocate = true;  // Content-Length 만큼 미리 확장
+    }
+
     @Data
     public static class Vscode
     {
@@ -79,6 +123,7 @@ public class JavelinConfig
     @Data
     public static class extension
     {
+        private String url = "https://open-vsx.org/api/";  // Open VSX API 주소
         private String root;
         private String version;
         private String vsix;
@@ -95,6 +140,70 @@ public class JavelinConfig
         private String suffix;
     }
 
+    @Data
+    public static class VersionCache
+    {
+        private Duration ttl = Duration.ofHours(6);  // 최신 버전 캐시 유지 시간
+        private int githubReserve = 5;  // GitHub API 남은 요청 수가 이 값 이하이면 초기화 시각까지 호출 보류
+    }
+
+    @Data
+    public static class Refresh
+    {
+        private int concurrency = 2;  // 동시에 실행할 갱신 작업 수
+        private String adminToken;  // 관리 API 호출에 X-Javelin-Admin-Token 헤더로 전달 (비어 있으면 관리 API 비활성)
+    }
+
+    @Data
+    public static class Classifier
+    {
+        private String versionPattern = "(\\d+\\.\\d+(\\.\\d+)*)";  // 규칙에 버전 패턴이 없을 때 파일명에서 버전 추출
+        private String unknownVersion = "Unknown";  // 버전을 찾지 못한 경우 표시
+        private List<Rule> rules = new ArrayList<>();  // 위에서부터 처음 일치하는 규칙 사용
+    }
+
+    @Data
+    public static class Rule
+    {
+        private String glob;  // 미러 기준 상대 경로 (대소문자 무시, * 는 / 를 넘지 않음, ** 는 / 포함)
+        private String regex;  // glob 대신 사용할 정규식 (경로 전체 일치)
+        private String category;
+        private String subcategory;  // {version} 은 추출한 버전으로 치환
+        private String description;
+        private String version;  // 파일명에서 버전 추출 정규식 (첫 번째 그룹)
+        private Integer order;  // 화면 표시 순서 (미지정 시 규칙 순서)
+    }
+
+    @Data
+    public static class Serving
+    {
+        private long maxConcurrentStreams = 128;  // HTTP/2 연결당 동시 스트림 수 (확장 묶음을 한 연결로 요청)
+        private int maxConcurrentStreamExecution = 32;  // HTTP/2 연결당 동시에 처리할 스트림 수
+        private DataSize writeBufferSize = DataSize.ofKilobytes(64);  // 소켓 쓰기 버퍼 (대용량 전송 시 시스템 호출 감소)
+        private DataSize socketSendBuffer = DataSize.ofMegabytes(1);  // 커널 송신 버퍼 (SO_SNDBUF, 고지연 구간 처리량)
+    }
+
+    @Data
+    public static class Warmup
+    {
+        private boolean enabled = true;  // 동기화로 게시된 파일을 페이지 캐시에 미리 적재
+        private DataSize budget = DataSize.ofGigabytes(2);  // 미리 적재해 둘 파일 총량 상한 (최신 파일 우선)
+        private List<String> paths = new ArrayList<>();  // 대상 파일 glob (분류 규칙과 같은 문법)
+        private DataSize readAhead = DataSize.ofMegabytes(16);  // 적재되지 않은 파일 서빙 시 미리 읽을 앞부분 크기 (0 이면 사용 안 함)
+    }
+
+    @Data
+    public static class Tiering
+    {
+        private boolean enabled = false;  // 오래 요청되지 않은 파일을 압축해 콜드 계층으로 이동
+        private Duration coldAfter = Duration.ofDays(30);  // 이 기간 동안 요청이 없으면 콜드 계층으로 이동
+        private int promoteAfter = 3;  // 콜드 파일이 이 횟수만큼 요청되면 핫 계층으로 복원
+        private DataSize frameSize = DataSize.ofMegabytes(1);  // 독립 압축 단위 (Range 요청 시 이 단위로 찾아감)
+        private DataSize minSize = DataSize.ofMegabytes(1);  // 이보다 작은 파일은 이동하지 않음
+        private double minSaving = 0.1;  // 압축으로 줄어드는 비율이 이보다 작으면 이동하지 않음 (이미 압축된 아카이브 등)
+        private String stateFile = "tiering-state.json";  // 마지막 요청 시각 보관 파일 (미러 디렉토리 밖)
+    }
+
     @Data
     public static class SpringToolSuite
     {
@@ -103,24 +212,45 @@ public class JavelinConfig
         private String url;
     }
 
+    // 블로킹 파일 작업(존재 확인, 디렉토리 생성, 이동, 아카이브 색인) 스케줄러
+    // spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드 사용 (Java 21+, MVC 요청 처리도 가상 스레드로 전환됨)
+    @Bean(destroyMethod = "")
+    public Scheduler blockingScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "javelin-blocking");
+        }
+        return Schedulers.boundedElastic();
+    }
+
+    // 서빙 커넥터 설정 - server.http2.enabled 로 추가된 HTTP/2 프로토콜의 스트림 수와 소켓 버퍼 크기
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> servingCustomizer() {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            connector.setProperty("socket.appWriteBufSize", String.valueOf(serving.getWriteBufferSize().toBytes()));
+            connector.setProperty("socket.txBufSize", String.valueOf(serving.getSocketSendBuffer().toBytes()));
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2Protocol) {
+                    http2Protocol.setMaxConcurrentStreams(serving.getMaxConcurrentStreams());
+                    http2Protocol.setMaxConcurrentStreamExecution(serving.getMaxConcurrentStreamExecution());
+                }
+            }
+        });
+    }
+
     @Bean
     public WebClient webClient() {
+        Transfer transfer = download.getTransfer();
         HttpClient httpClient = HttpClient.create()
                 .followRedirect(true) // 리다이렉션 자동 처리
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 60000) // 연결 타임아웃 60초
-                .responseTimeout(Duration.ofMinutes(30)) // 응답 타임아웃 30분 (큰 파일용)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) transfer.getConnectTimeout().toMillis()) // 연결 타임아웃
+                .responseTimeout(transfer.getMaxFirstByteTimeout().plus(transfer.getIdleTimeout())) // 읽기 타임아웃 상한 (세부 감시는 JavelinTransferMonitor)
                 .resolver(DefaultAddressResolverGroup.INSTANCE) // macOS DNS 문제 해결
                 ;
 
-        WebClient.Builder builder = WebClient.builder()
+        // GitHub 토큰은 JavelinGitHubClient 에서 GitHub API 요청에만 추가
+        return WebClient.builder()
                         .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(100 * 1024 * 1024)) // 100MB로 증가
-                        .clientConnector(new ReactorClientHttpConnector(Objects.requireNonNull(httpClient)));
-        
-        // GitHub 토큰이 있을 때만 Authorization 헤더 추가
-        if (GitHubToken != null && !GitHubToken.trim().isEmpty()) {
-            builder.defaultHeader("Authorization", "Bearer " + GitHubToken.trim());
-        }
-        
-        return builder.build();
+                        .clientConnector(new ReactorClientHttpConnector(Objects.requireNonNull(httpClient)))
+                        .build();
     }
 }
\ No newline at end of file
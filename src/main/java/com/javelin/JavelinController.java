@@ -1,9 +1,10 @@
 package com.javelin;
 
-import java.nio.file.Files;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -21,6 +22,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,124 +33,42 @@ import lombok.extern.slf4j.Slf4j;
 public class JavelinController
 {    
     private final JavelinConfig javelinConfig;
+    private final JavelinCatalog catalog;
+    private final JavelinClassifier classifier;
+    private final JavelinPageCache pageCache;
+    private final JavelinColdStorage coldStorage;
 
     @GetMapping({"/", ""})
+    @ResponseBody
+    public ResponseEntity<byte[]> index(HttpServletRequest request, HttpServletResponse response)
+    {
+        return pageCache.respond("index", this::showAll, request, response);
+    }
+
     public String showAll(Model model)
     {
-        List<String> relativeFileNames = new ArrayList<>();
-        try
-        {
-            Files.walk(Paths.get(javelinConfig.getDownload().getPath()))
-                .filter(Files::isRegularFile)
-                .forEach(path -> relativeFileNames.add(Paths.get(javelinConfig.getDownload().getPath()).relativize(path).toString()));
-        }
-        catch (Exception e)
-        {
-            log.error("FILE FETCH ERROR!!");
-        }
+        return showAll(catalog.current(), model);
+    }
 
-        Map<String, Map<String, List<Map<String, Object>>>> allToolsCategories = new LinkedHashMap<>();
-        Map<String, Map<String, List<Map<String, Object>>>> vscodeCategories = new LinkedHashMap<>();
+    // 인덱스 화면 모델 구성 - 카탈로그 세대가 바뀐 뒤 첫 요청에서만 호출 (JavelinPageCache 가 ETag 를 만든 스냅샷 전달)
+    public String showAll(JavelinCatalog.Snapshot snapshot, Model model)
+    {
+        Map<String, Map<String, List<Map<String, Object>>>> fileCategories = new LinkedHashMap<>();
 
-        for (String relativeFileName : relativeFileNames)
+        for (JavelinCatalog.Entry entry : snapshot.entries())
         {
-            String fullPath = Paths.get(javelinConfig.getDownload().getPath()).resolve(relativeFileName).normalize().toString();
-            Map<String, String> metaData = getFileMetaData(fullPath, relativeFileName);
-            String version = metaData.get("version");
-            String fileSize = metaData.get("file_size");
-            String description = null;
-
-            String[] parts = relativeFileName.split("/");
-            if (parts.length > 1)
-            {
-                String subCategory = "";
-                String category = "VS CODE 확장";
-                String file = parts[2];
-                String url = "/getFile/" + relativeFileName;
-
-                switch(parts[1].toLowerCase())
-                {
-                    case "common" :
-                    case "remote" :
-                        subCategory = "공통";
-                        description = "VS Code 공통 확장팩";
-                        break;
-                    case "java" :
-                        subCategory = "Java";
-                        description = "VS Code Java 확장팩";
-                        break;
-                    case "spring" :
-                        subCategory = "Spring";
-                        description = "VS Code Spring 확장팩";
-                        break;
-                    case "openapi" :
-                        subCategory = "OpenAPI";
-                        description = "VS Code OpenAPI 확장팩";
-                        break;
-                }
-                if (!subCategory.isEmpty()) {
-                    addFileToCategory(vscodeCategories, category, subCategory, file, url, version, fileSize, description);
-                }
-            }
-            else 
+            if (entry.category() == null)
             {
-                String actualCategory = "";
-                String subCategory = "파일";
-
-                 if (relativeFileName.toLowerCase().contains("jdk")) {
-                    actualCategory = "Amazon Corretto JDK";
-                    description = "Java 개발 키트";
-                    subCategory = version;
-                 }
-                else if ( relativeFileName.toLowerCase().startsWith("git") )
-                {
-                    actualCategory = "Git";
-                    description = "소스 코드 버전 관리 시스템";
-                }
-                else if ( relativeFileName.toLowerCase().startsWith("apache-maven") )
-                {
-                    actualCategory = "Apache Maven";
-                    description = "아파치 소프트웨어 재단에서 제공하는 Java 빌드 도구";
-                }
-                else if ( relativeFileName.toLowerCase().startsWith("gradle") )
-                {
-                    actualCategory = "Gradle";
-                    description = "Java, Android, Kotlin 언어에 대한 오픈 소스 빌드 자동화 도구";
-                }
-                else if ( relativeFileName.toLowerCase().startsWith("vscode") )
-                {
-                    actualCategory = "Microsoft Visual Studio Code";
-                    description = "마이크로소프트에서 개발한 무료 오픈소스 소스 코드 편집기";
-                }
-                else if ( relativeFileName.toLowerCase().contains("spring-tools") )
-                {
-                    actualCategory = "Spring Tool Suite";
-                    description = "Eclipse IDE 를 기반으로 Spring Framework을 지원하는 IDE";
-                }
-                else if ( relativeFileName.toLowerCase().startsWith("postman") )
-                {
-                    actualCategory = "Postman";
-                    description = "API 개발 및 테스트 도구";
-                }
-
-                if (!actualCategory.isEmpty()) {
-                    addFileToCategory(allToolsCategories, actualCategory, subCategory, relativeFileName, "/getFile/" + relativeFileName, version, fileSize, description);
-                }
+                continue;
             }
+            addFileToCategory(fileCategories, entry.category(), entry.subcategory(), entry.fileName(), entry.url(), entry.version(), entry.sizeLabel(), entry.description());
         }
 
+        // 분류 규칙의 order 순으로 정렬 (javelin.classifier.rules)
         Map<String, Map<String, List<Map<String, Object>>>> orderedFileCategories = new LinkedHashMap<>();
-        List<String> toolOrder = List.of("Amazon Corretto JDK", "Git", "Apache Maven", "Gradle", "Microsoft Visual Studio Code", "Spring Tool Suite", "Postman");
-
-        toolOrder.forEach(toolName -> {
-            if (allToolsCategories.containsKey(toolName)) {
-                orderedFileCategories.put(toolName, allToolsCategories.get(toolName));
-            }
-        });
-
-        if (!vscodeCategories.isEmpty()) {
-            orderedFileCategories.put("VS CODE 확장", vscodeCategories.get("VS CODE 확장"));
-        }
+        fileCategories.keySet().stream()
+            .sorted(Comparator.comparingInt(classifier::categoryOrder))
+            .forEach(category -> orderedFileCategories.put(category, fileCategories.get(category)));
 
         model.addAttribute("fileCategories", orderedFileCategories);
 
@@ -174,79 +95,26 @@ public class JavelinController
                       .add(fileDetails);
     }
 
-    private Map<String, String> getFileMetaData(String fullPath, String fileName) {
-        Map<String, String> metaData = new HashMap<>();
-        String version = "Unknown";
-        String fileSize = "Unknown";
-
-        // Extract version
-        if (fileName.toLowerCase().contains("jdk")) {
-            try {
-                String[] fileNameParts = fileName.split("-");
-                for (String part : fileNameParts) {
-                    if (part.matches("\\d+")) { // Check for digits
-                        version = part;
-                        break;
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("JDK 파일에서 버전 추출 실패: {}", fileName);
-            }
-        } else {
-            // General version extraction for other files
-            // This is a simple regex, might need to be refined for specific patterns
-            // Example: "product-1.2.3-final.zip" => "1.2.3"
-            java.util.regex.Matcher matcher = java.util.regex.Pattern.compile("(\\d+\\.\\d+(\\.\\d+)*)").matcher(fileName);
-            if (matcher.find()) {
-                version = matcher.group(1);
-            }
-        }
-
-        // Get file size
-        try {
-            Path path = Paths.get(fullPath);
-            fileSize = formatFileSize(Files.size(path));
-        } catch (Exception e) {
-            log.warn("파일 크기 측정 실패: {}", fullPath);
-        }
-
-        metaData.put("version", version);
-        metaData.put("file_size", fileSize);
-        return metaData;
-    }
-
-    private String formatFileSize(long bytes) {
-        String[] units = new String[] { "B", "KB", "MB", "GB", "TB" };
-        int unitIndex = 0;
-        double size = bytes;
-        while (size >= 1024 && unitIndex < units.length - 1) {
-            size /= 1024;
-            unitIndex++;
-        }
-        return String.format("%.1f %s", size, units[unitIndex]);
+    @GetMapping("/ide-download")
+    @ResponseBody
+    public ResponseEntity<byte[]> ideDownload(HttpServletRequest request, HttpServletResponse response) {
+        return pageCache.respond("ide-download", (snapshot, model) -> "ide-download", request, response);
     }
 
-    @GetMapping("/ide-download")
-    public String ideDownload() {
-        return "ide-download";
+    @GetMapping("/library")
+    @ResponseBody
+    public ResponseEntity<byte[]> library(HttpServletRequest request, HttpServletResponse response) {
+        return pageCache.respond("library", (snapshot, model) -> "library", request, response);
     }
 
     @GetMapping("/getAll")
     @ResponseBody
     public ResponseEntity<List<String>> getAllFiles()
     {
-        try
-        {
-            List<String> fileNames = new ArrayList<>();
-            Files.walk(Paths.get(javelinConfig.getDownload().getPath()))
-                .filter(Files::isRegularFile)
-                .forEach(path -> fileNames.add(Paths.get(javelinConfig.getDownload().getPath()).relativize(path).toString()));
-            return ResponseEntity.ok(fileNames);
-        }
-        catch (Exception e)
-        {
-            return ResponseEntity.status(500).body(null);
-        }
+        List<String> fileNames = catalog.current().entries().stream()
+            .map(JavelinCatalog.Entry::path)
+            .toList();
+        return ResponseEntity.ok(fileNames);
     }
 
     @GetMapping("/getFile/{fileName:.+}")
@@ -256,8 +124,8 @@ public class JavelinController
         try
         {
             Path filePath = Paths.get(javelinConfig.getDownload().getPath()).resolve(fileName).normalize();
-            Resource resource = new UrlResource(Objects.requireNonNull(filePath.toUri()));
-            if (resource.exists())
+            Resource resource = resolveFile(filePath);
+            if (resource != null)
             {
                 // 파일명만 추출 (경로 제외)
                 String downloadFileName = Paths.get(fileName).getFileName().toString();
@@ -286,8 +154,8 @@ public class JavelinController
         try
         {
             Path filePath = Paths.get(javelinConfig.getDownload().getPath() + javelinConfig.getVscode().getExtension().getRoot() + category).resolve(fileName).normalize();
-            Resource resource = new UrlResource(Objects.requireNonNull(filePath.toUri()));
-            if (resource.exists())
+            Resource resource = resolveFile(filePath);
+            if (resource != null)
             {
                 String downloadFileName = Paths.get(fileName).getFileName().toString();
                 return ResponseEntity.ok()
@@ -307,4 +175,16 @@ public class JavelinController
             return ResponseEntity.status(500).body(null);
         }
     }
-}
\ No newline at end of file
+
+    // 핫 파일은 기존과 같이 전송하고, 없으면 콜드 계층 파일을 풀면서 전송 (둘 다 없으면 null)
+    private Resource resolveFile(Path filePath) throws IOException
+    {
+        Resource resource = new UrlResource(Objects.requireNonNull(filePath.toUri()));
+        if (resource.exists())
+        {
+            coldStorage.recordAccess(filePath);
+            return resource;
+        }
+        return coldStorage.findCold(filePath);
+    }
+}
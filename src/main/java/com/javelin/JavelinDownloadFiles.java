@@ -3,26 +3,33 @@ package com.javelin;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import jakarta.annotation.PostConstruct;
-
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpRange;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -30,7 +37,8 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @Component
@@ -39,9 +47,20 @@ public class JavelinDownloadFiles
 {
     private final WebClient webClient;
     private final JavelinConfig javelinConfig;
+    private final JavelinTransferMonitor transferMonitor;
+    private final JavelinFileWriter fileWriter;
+    private final JavelinGitHubClient gitHubClient;
+    private final JavelinVersionResolver versionResolver;
+    private final JavelinCatalog catalog;
+    private final Scheduler blockingScheduler;  // 블로킹 파일 작업용 (JavelinConfig.blockingScheduler)
     private final ObjectMapper objectMapper = new ObjectMapper();  // ObjectMapper 재사용
+    private final Map<Path, SharedDownload> inFlightDownloads = new ConcurrentHashMap<>();  // 진행 중인 다운로드
+    private final AtomicBoolean cycleRunning = new AtomicBoolean();  // 정기 동기화 진행 여부
+
+    // 기동 시 디렉토리 초기화 - 기동 경로에서 분리하여 백그라운드로 한 번만 실행, 동기화/갱신은 완료 후 시작
+    private final Mono<Void> startupCleanup = Mono.defer(this::clearDownloadDirectoryAsync).cache();
 
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void init()
     {
         // 다운로드 기능이 비활성화된 경우 실행하지 않음
@@ -50,31 +69,47 @@ public class JavelinDownloadFiles
             log.info("다운로드 기능이 비활성화되어 있습니다. (javelin.download.enable=false)");
             return;
         }
-        else if (javelinConfig.getDownload().isClear())
+        startupCleanup.subscribe();
+    }
+
+    // 필드 초기화 시점에는 blockingScheduler 가 아직 주입되지 않으므로 구독 시점에 조회
+    private Mono<Void> clearDownloadDirectoryAsync()
+    {
+        return Mono.fromRunnable(this::clearDownloadDirectory)
+                .subscribeOn(blockingScheduler)
+                .then();
+    }
+
+    private void clearDownloadDirectory()
+    {
+        if (!javelinConfig.getDownload().isEnable() || !javelinConfig.getDownload().isClear())
         {
-            log.warn("다운로드 파일 초기화 기능이 활성화 되어 있습니다. (javelin.download.clear=true)");
+            return;
+        }
 
-            Path dirPath = Paths.get(javelinConfig.getDownload().getPath());
+        log.warn("다운로드 파일 초기화 기능이 활성화 되어 있습니다. (javelin.download.clear=true)");
 
-            try
-            {
-                if (Files.exists(dirPath))
-                {
-                    Files.walk(dirPath)
-                        .map(Path::toFile)
-                        .sorted((o1, o2) -> -o1.compareTo(o2))
-                        .forEach(File::delete);
-                }
-            }
-            catch (Exception e)
+        Path dirPath = Paths.get(javelinConfig.getDownload().getPath());
+
+        try
+        {
+            if (Files.exists(dirPath))
             {
-                log.error("다운로드 디렉토리 초기화 실패");
+                Files.walk(dirPath)
+                    .map(Path::toFile)
+                    .sorted((o1, o2) -> -o1.compareTo(o2))
+                    .forEach(File::delete);
             }
         }
+        catch (Exception e)
+        {
+            log.error("다운로드 디렉토리 초기화 실패");
+        }
+        catalog.requestRefresh();
     }
 
-    // 매일 오전 2시에 실행 (cron: 초 분 시 일 월 요일)
-    @Scheduled(fixedDelay=200000)
+    // 주기적 실행 (javelin.download.schedule.fixed-delay, 이전 주기가 끝나지 않았으면 건너뜀)
+    @Scheduled(fixedDelayString = "${javelin.download.schedule.fixed-delay:200000}", initialDelayString = "${javelin.download.schedule.initial-delay:60000}")
     private void executeDownload()
     {
         // 다운로드 기능이 비활성화된 경우 실행하지 않음
@@ -83,6 +118,24 @@ public class JavelinDownloadFiles
             return;
         }
 
+        if (!cycleRunning.compareAndSet(false, true)) {
+            log.warn("이전 다운로드 주기가 진행 중입니다. 이번 주기를 건너뜁니다.");
+            return;
+        }
+
+        synchronize()
+                .doFinally(signal -> cycleRunning.set(false))
+                .subscribe();
+    }
+
+    // 전체 소스 동기화 1주기
+    public Mono<Void> synchronize()
+    {
+        return startupCleanup.then(Mono.defer(this::synchronizeAll));
+    }
+
+    private Mono<Void> synchronizeAll()
+    {
         // 다운로드 작업 리스트 생성
         java.util.List<Mono<Void>> downloadTasks = new java.util.ArrayList<>();
         downloadTasks.add(downloadAmazonCorrettoJDK());
@@ -101,8 +154,9 @@ public class JavelinDownloadFiles
             log.info("Postman 다운로드가 비활성화되어 있습니다.");
         }
         
-        // 다운로드 작업을 순차적으로 하나씩 실행 (concurrency = 1)
-        Flux.fromIterable(downloadTasks)
+        // 다운로드 작업을 순차적으로 하나씩 실행 (concurrency = 1) - 소스별 오류는 여기서만 무시하고 다음 소스 진행
+        // (갱신 작업은 같은 메서드의 오류를 그대로 받아 실패로 기록)
+        return Flux.fromIterable(downloadTasks)
                 .concatMap(mono -> mono
                     .doOnError(e -> log.error("Download error on task", e))
                     .onErrorResume(e -> {
@@ -116,8 +170,76 @@ public class JavelinDownloadFiles
                 })
                 .doOnError(e -> {
                     log.error("전체 다운로드 프로세스 오류", e);
-                })
-                .subscribe();
+                });
+    }
+
+    // 단일 소스/아티팩트 갱신 (예: corretto:25, maven, extension:redhat.java, extension:java)
+    public Mono<Void> refresh(String target) {
+        return startupCleanup.then(Mono.defer(() -> refreshTarget(target)));
+    }
+
+    private Mono<Void> refreshTarget(String target) {
+        String[] parts = target.split(":", 2);
+        String source = parts[0].toLowerCase();
+        String argument = parts.length > 1 ? parts[1] : null;
+
+        switch (source) {
+            case "corretto":
+                if (argument == null) {
+                    return downloadAmazonCorrettoJDK();
+                }
+                try {
+                    return downloadAmazonCorrettoJDK(Integer.parseInt(argument));
+                } catch (NumberFormatException e) {
+                    return Mono.error(new IllegalArgumentException("잘못된 Corretto 버전: " + argument));
+                }
+            case "maven":
+            case "apache-maven":
+                versionResolver.evict("apache-maven");
+                return downloadApacheMaven();
+            case "gradle":
+                versionResolver.evict("gradle");
+                return downloadGradle();
+            case "git":
+                versionResolver.evict("git");
+                return downloadGit();
+            case "vscode":
+                return downloadVscode();
+            case "sts":
+            case "spring-tool-suite":
+                return downloadSpringToolSuite();
+            case "postman":
+                return downloadPostman();
+            case "extension":
+                return argument == null ? downloadExtension() : refreshExtension(argument);
+            default:
+                return Mono.error(new IllegalArgumentException("알 수 없는 갱신 대상: " + target));
+        }
+    }
+
+    // 확장 갱신 - 카테고리명(java) 또는 publisher.extensionName(redhat.java)
+    private Mono<Void> refreshExtension(String argument) {
+        Map<String, java.util.LinkedHashSet<JavelinConfig.Category>> categories = javelinConfig.getVscode().getExtension().getCategory();
+
+        if (categories.containsKey(argument)) {
+            return Flux.fromIterable(categories.get(argument))
+                    .concatMap(category -> getLatestVersion(category.getPublisher(), category.getExtensionName(), extensionCategoryPath(argument)))
+                    .then();
+        }
+
+        for (Map.Entry<String, java.util.LinkedHashSet<JavelinConfig.Category>> entry : categories.entrySet()) {
+            for (JavelinConfig.Category category : entry.getValue()) {
+                if ((category.getPublisher() + "." + category.getExtensionName()).equalsIgnoreCase(argument)) {
+                    return getLatestVersion(category.getPublisher(), category.getExtensionName(), extensionCategoryPath(entry.getKey()));
+                }
+            }
+        }
+        return Mono.error(new IllegalArgumentException("설정에 없는 확장: " + argument));
+    }
+
+    private String extensionCategoryPath(String category) {
+        String extensionBasePath = javelinConfig.getVscode().getExtension().getClass().getSimpleName();
+        return Paths.get(javelinConfig.getDownload().getPath(), extensionBasePath, category) + "/";
     }
 
     // Amazon Corretto JDK 다운로드 (복수 버전)
@@ -130,25 +252,25 @@ public class JavelinDownloadFiles
             return Mono.empty();
         }
 
-        // 각 버전별로 순차적으로 다운로드 (concatMap 사용)
+        // 각 버전별로 순차적으로 다운로드 - 한 버전이 실패해도 나머지 버전은 받고 오류는 마지막에 전달
         return Flux.fromIterable(versions)
-                .concatMap(version -> {
-                    String downloadUrl = javelinConfig.getAmazonCorretto().getUrl()
-                            .replace("{version}", String.valueOf(version));
-                    
-                    log.info("Amazon Corretto {} 다운로드 시작", version);
-                    log.info("Amazon Corretto {} 다운로드 URL: {}", version, downloadUrl);
-                    
-                    return downloadFile(downloadUrl, javelinConfig.getDownload().getPath(), false)
-                            .doOnSuccess(v -> log.info("Amazon Corretto {} 다운로드 완료", version))
-                            .onErrorResume(Exception.class, e -> {
-                                log.error("Amazon Corretto {} 다운로드 중 오류: {}", version, e.getMessage());
-                                return Mono.empty();
-                            });
-                })
+                .concatMapDelayError(this::downloadAmazonCorrettoJDK)
                 .then();
     }
 
+    // Amazon Corretto JDK 다운로드 (단일 버전)
+    private Mono<Void> downloadAmazonCorrettoJDK(int version) {
+        String downloadUrl = javelinConfig.getAmazonCorretto().getUrl()
+                .replace("{version}", String.valueOf(version));
+
+        log.info("Amazon Corretto {} 다운로드 시작", version);
+        log.info("Amazon Corretto {} 다운로드 URL: {}", version, downloadUrl);
+
+        return downloadFile(downloadUrl, javelinConfig.getDownload().getPath(), false)
+                .doOnSuccess(v -> log.info("Amazon Corretto {} 다운로드 완료", version))
+                .doOnError(e -> log.error("Amazon Corretto {} 다운로드 중 오류: {}", version, e.getMessage()));
+    }
+
     // Apache Maven 다운로드
     private Mono<Void> downloadApacheMaven() {
         log.info("Apache Maven 다운로드");
@@ -159,10 +281,9 @@ public class JavelinDownloadFiles
         if (fixedVersion != null && !fixedVersion.isEmpty()) {
             versionMono = Mono.just(fixedVersion);
         } else {
-            versionMono = webClient.get()
-                    .uri(Objects.requireNonNull(javelinConfig.getApacheMaven().getUrl()))
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
+            versionMono = versionResolver.resolve("apache-maven", () -> gitHubClient.get(
+                        javelinConfig.getApacheMaven().getUrl(),
+                        new ParameterizedTypeReference<List<Map<String, Object>>>() {})
                     .map(responseList -> {
                         for (Map<String, Object> tempRes : responseList) {
                             if (tempRes != null && tempRes.containsKey("name")
@@ -174,7 +295,7 @@ public class JavelinDownloadFiles
                             }
                         }
                         return "";
-                    });
+                    }));
         }
 
         return versionMono.flatMap(latestVersion -> {
@@ -192,18 +313,7 @@ public class JavelinDownloadFiles
 
             return downloadFile(downloadUrl, javelinConfig.getDownload().getPath(), false);
         })
-        .onErrorResume(WebClientResponseException.class, e -> {
-            if (e.getStatusCode().value() == 401) {
-                log.warn("GitHub API 인증 실패 (401). Apache Maven 다운로드를 건너뜁니다.");
-            } else {
-                log.error("Apache Maven API 호출 실패: {}", e.getMessage());
-            }
-            return Mono.empty();
-        })
-        .onErrorResume(Exception.class, e -> {
-            log.error("Apache Maven 다운로드 중 예상치 못한 오류: {}", e.getMessage());
-            return Mono.empty();
-        });
+        .doOnError(e -> log.error("Apache Maven 다운로드 중 예상치 못한 오류: {}", e.getMessage()));
     }
 
     // Gradle 다운로드
@@ -216,7 +326,7 @@ public class JavelinDownloadFiles
         if (fixedVersion != null && !fixedVersion.isEmpty()) {
             versionMono = Mono.just(fixedVersion);
         } else {
-            versionMono = webClient.get()
+            versionMono = versionResolver.resolve("gradle", () -> webClient.get()
                     .uri(Objects.requireNonNull(javelinConfig.getGradle().getUrl()))
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
@@ -225,7 +335,7 @@ public class JavelinDownloadFiles
                             return response.get("version").toString();
                         }
                         return "";
-                    });
+                    }));
         }
 
         return versionMono.flatMap(latestVersion -> {
@@ -253,10 +363,9 @@ public class JavelinDownloadFiles
         if (fixedVersion != null && !fixedVersion.isEmpty()) {
             versionMono = Mono.just(fixedVersion);
         } else {
-            versionMono = webClient.get()
-                    .uri(Objects.requireNonNull(javelinConfig.getGit().getUrl()))
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
+            versionMono = gitHubClient.get(
+                        javelinConfig.getGit().getUrl(),
+                        new ParameterizedTypeReference<List<Map<String, Object>>>() {})
                     .map(responseList -> {
                         for (Map<String, Object> tempRes : responseList) {
                             if (tempRes != null && tempRes.containsKey("name")
@@ -268,12 +377,12 @@ public class JavelinDownloadFiles
                     });
         }
 
-        return versionMono.flatMap(latestVersion ->
-            webClient.get()
-                .uri(javelinConfig.getGit().getPrefix() + latestVersion)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .flatMap(subResponse -> {
+        // 태그 조회와 릴리스 조회 결과(설치 파일 URL)를 함께 캐시
+        Mono<String> downloadUrlMono = versionResolver.resolve("git", () -> versionMono.flatMap(latestVersion ->
+            gitHubClient.get(
+                    javelinConfig.getGit().getPrefix() + latestVersion,
+                    new ParameterizedTypeReference<Map<String, Object>>() {})
+                .map(subResponse -> {
                     if (subResponse != null && subResponse.containsKey("assets")) {
                         @SuppressWarnings("unchecked")
                         List<Map<String, Object>> responseList = (List<Map<String, Object>>) subResponse.get("assets");
@@ -281,26 +390,17 @@ public class JavelinDownloadFiles
                         for (Map<String, Object> assets : responseList) {
                             if (assets != null && assets.containsKey("browser_download_url")
                                     && assets.get("browser_download_url").toString().contains("64-bit.exe")) {
-                                String downloadUrl = assets.get("browser_download_url").toString();
-                                return downloadFile(downloadUrl, javelinConfig.getDownload().getPath(), false);
+                                return assets.get("browser_download_url").toString();
                             }
                         }
                     }
-                    return Mono.empty();
+                    return "";
                 })
-        )
-        .onErrorResume(WebClientResponseException.class, e -> {
-            if (e.getStatusCode().value() == 401) {
-                log.warn("GitHub API 인증 실패 (401). Git 다운로드를 건너뜁니다.");
-            } else {
-                log.error("Git API 호출 실패: {}", e.getMessage());
-            }
-            return Mono.empty();
-        })
-        .onErrorResume(Exception.class, e -> {
-            log.error("Git 다운로드 중 예상치 못한 오류: {}", e.getMessage());
-            return Mono.empty();
-        });
+        ));
+
+        return downloadUrlMono
+            .flatMap(downloadUrl -> downloadFile(downloadUrl, javelinConfig.getDownload().getPath(), false))
+            .doOnError(e -> log.error("Git 다운로드 중 예상치 못한 오류: {}", e.getMessage()));
     }
 
     // VSCode 다운로드
@@ -328,14 +428,9 @@ public class JavelinDownloadFiles
                         return Mono.empty();
                     }
                 })
-                .onErrorResume(WebClientResponseException.class, e -> {
-                    log.error("VSCode API 호출 실패: {}", e.getMessage());
-                    return Mono.empty();
-                })
-                .onErrorResume(Exception.class, e -> {
-                    log.error("VSCode 다운로드 중 예상치 못한 오류: {}", e.getMessage());
-                    return Mono.empty();
-                });
+                .doOnError(WebClientResponseException.class, e -> log.error("VSCode API 호출 실패: {}", e.getMessage()))
+                .doOnError(e -> !(e instanceof WebClientResponseException),
+                        e -> log.error("VSCode 다운로드 중 예상치 못한 오류: {}", e.getMessage()));
     }
 
     // Spring Tool Suite 다운로드
@@ -360,10 +455,7 @@ public class JavelinDownloadFiles
         log.info("Spring Tool Suite 다운로드 URL: {}", downloadUrl);
         
         return downloadFile(downloadUrl, javelinConfig.getDownload().getPath(), false)
-                .onErrorResume(Exception.class, e -> {
-                    log.error("Spring Tool Suite 다운로드 중 오류: {}", e.getMessage());
-                    return Mono.empty();
-                });
+                .doOnError(e -> log.error("Spring Tool Suite 다운로드 중 오류: {}", e.getMessage()));
     }
 
     // Postman 다운로드
@@ -388,7 +480,7 @@ public class JavelinDownloadFiles
             Files.createDirectories(extensionRootPath);
             return extensionRootPath.toString();
         })
-        .subscribeOn(Schedulers.boundedElastic())
+        .subscribeOn(blockingScheduler)
         .flatMap(extensionRoot -> 
             Flux.fromIterable(javelinConfig.getVscode().getExtension().getCategory().entrySet())
                 .concatMap(entry -> {
@@ -402,7 +494,7 @@ public class JavelinDownloadFiles
                     catch (Exception e)
                     {
                         log.error("다운로드 디렉토리 초기화 실패");
-                        return Mono.empty();
+                        return Mono.error(e);
                     }
 
                     return Flux.fromIterable(entry.getValue())
@@ -420,7 +512,7 @@ public class JavelinDownloadFiles
 
     // 확장 버전 조회, 다운로드 처리
     private Mono<Void> getLatestVersion(String publisher, String extensionName, String baseDir) {
-        String openVsxApiUrl = "https://open-vsx.org/api/" + publisher + "/" + extensionName;
+        String openVsxApiUrl = javelinConfig.getVscode().getExtension().getUrl() + publisher + "/" + extensionName;
 
         return webClient.get()
                 .uri(openVsxApiUrl)
@@ -432,8 +524,8 @@ public class JavelinDownloadFiles
                         String latestVersion = root.path("version").asText();
 
                         String downloadUrl = String.format(
-                            "https://open-vsx.org/api/%s/%s/%s/file/%s.%s-%s.vsix",
-                            publisher, extensionName, latestVersion, publisher, extensionName, latestVersion
+                            "%s%s/%s/%s/file/%s.%s-%s.vsix",
+                            javelinConfig.getVscode().getExtension().getUrl(), publisher, extensionName, latestVersion, publisher, extensionName, latestVersion
                         );
 
                         String targetPath = baseDir + publisher + "." + extensionName + "." + latestVersion + ".vsix";
@@ -488,23 +580,35 @@ public class JavelinDownloadFiles
             
             return finalTargetPath;
         })
-        .subscribeOn(Schedulers.boundedElastic())
+        .subscribeOn(blockingScheduler)
         .flatMap(finalTargetPath -> {
             log.info("Final file will be written to: {}", finalTargetPath.toAbsolutePath());
             
-            // 파일이 이미 존재하는지 확인
-            return Mono.fromCallable(() -> Files.exists(finalTargetPath))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(fileExists -> {
-                    if (fileExists) {
-                        log.info("파일이 이미 존재합니다. 다운로드를 건너뜁니다: {}", finalTargetPath);
-                        return Mono.empty();
-                    }
-                    
-                    // 파일이 없으면 다운로드 수행
-                    log.info("파일을 다운로드합니다: {}", finalTargetPath);
-                    return performDownload(decodeUrl, finalTargetPath);
-                });
+            // 파일이 이미 존재하는지 확인 (갱신 작업에서 force 지정 시 다시 받음)
+            return Mono.deferContextual(context -> {
+                JavelinRefreshJob job = context.<JavelinRefreshJob>getOrEmpty(JavelinRefreshJob.class).orElse(null);
+                boolean force = job != null && job.isForce();
+
+                return Mono.fromCallable(() -> Files.exists(finalTargetPath) || Files.exists(JavelinColdFile.coldPath(finalTargetPath)))
+                    .subscribeOn(blockingScheduler)
+                    .flatMap(fileExists -> {
+                        if (fileExists && !force) {
+                            log.info("파일이 이미 존재합니다. 다운로드를 건너뜁니다: {}", finalTargetPath);
+                            return Mono.empty();
+                        }
+
+                        // 파일이 없으면 다운로드 수행 - 같은 파일을 정기 동기화와 갱신 작업이 동시에 받지 않도록 공유
+                        log.info("파일을 다운로드합니다: {}", finalTargetPath);
+                        SharedDownload inFlight = inFlightDownloads.get(finalTargetPath);
+                        if (force && inFlight != null) {
+                            // 진행 중인 다운로드는 force 요청 이전에 시작된 것이므로 끝나기를 기다린 뒤 다시 받음
+                            log.info("진행 중인 다운로드 완료 후 다시 받습니다: {}", finalTargetPath);
+                            return inFlight.download().onErrorResume(e -> Mono.empty())
+                                .then(Mono.defer(() -> sharedDownload(decodeUrl, finalTargetPath, inFlight, job)));
+                        }
+                        return sharedDownload(decodeUrl, finalTargetPath, null, job);
+                    });
+            });
         })
         .onErrorResume(WebClientResponseException.class, e -> {
             log.error("WebClient HTTP error during download from {}. Status: {}, Body: {}", decodeUrl, e.getStatusCode(), e.getResponseBodyAsString(), e);
@@ -516,50 +620,167 @@ public class JavelinDownloadFiles
         });
     }
     
-    // 실제 다운로드 수행
-    private Mono<Void> performDownload(String decodeUrl, Path finalTargetPath) {
-        return webClient.get()
-            .uri(Objects.requireNonNull(decodeUrl))
-            .retrieve()
-            .bodyToFlux(DataBuffer.class)
-            .timeout(Duration.ofMinutes(30))
-            .doOnNext(dataBuffer -> {
-                if (log.isDebugEnabled()) {
-                    log.debug("Received DataBuffer of size: {} bytes", dataBuffer.readableByteCount());
-                }
-            })
-            .doOnComplete(() -> {
-                log.info("DataBuffer flux completed for URL: {}", decodeUrl);
-            })
-            .doOnError(e -> {
-                log.error("Error in DataBuffer flux for URL: {}", decodeUrl, e);
-            })
-            .transform(dataBufferFlux -> 
-                DataBufferUtils.write(Objects.requireNonNull(dataBufferFlux), Objects.requireNonNull(finalTargetPath))
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .doOnSuccess(v -> {
-                        log.info("DataBufferUtils.write completed for: {}", finalTargetPath);
-                    })
-                    .doOnError(e -> {
-                        log.error("Error in DataBufferUtils.write for: {}", finalTargetPath, e);
-                    })
-            )
+    // 같은 경로의 진행 중인 다운로드를 공유 (finished 는 이미 끝나 교체해야 하는 이전 다운로드)
+    // 갱신 작업은 먼저 시작한 다운로드에 합류해도 진행 상황을 받도록 공유 다운로드에 등록
+    private Mono<Void> sharedDownload(String decodeUrl, Path finalTargetPath, SharedDownload finished, JavelinRefreshJob job) {
+        SharedDownload shared = inFlightDownloads.compute(finalTargetPath, (path, current) -> {
+            if (current != null && current != finished) {
+                return current;
+            }
+            SharedDownload created = new SharedDownload(path);
+            created.download = performDownload(decodeUrl, path, created)
+                    .doFinally(signal -> inFlightDownloads.remove(path, created))
+                    .cache();
+            return created;
+        });
+        if (job != null) {
+            shared.attach(job);
+        }
+        return shared.download();
+    }
+
+    // 진행 중인 다운로드 - 함께 기다리는 모든 갱신 작업에 파일 크기와 받은 위치를 보고
+    private static final class SharedDownload {
+        private final Path path;
+        private final Set<JavelinRefreshJob> jobs = ConcurrentHashMap.newKeySet();
+        private final AtomicLong expectedLength = new AtomicLong(-1);
+        private final AtomicLong position = new AtomicLong();
+        private Mono<Void> download;
+
+        private SharedDownload(Path path) {
+            this.path = path;
+        }
+
+        private Mono<Void> download() {
+            return download;
+        }
+
+        private void attach(JavelinRefreshJob job) {
+            jobs.add(job);
+            job.updateFile(path, expectedLength.get(), position.get());
+        }
+
+        // 첫 응답(이어받기면 시작 위치 + 남은 길이)에서 확인한 전체 크기만 사용
+        private void expect(long length) {
+            if (length >= 0) {
+                expectedLength.compareAndSet(-1, length);
+            }
+            report();
+        }
+
+        private void moveTo(long newPosition) {
+            position.set(newPosition);
+            report();
+        }
+
+        private void advance(long bytes) {
+            position.addAndGet(bytes);
+            report();
+        }
+
+        private void report() {
+            long expected = expectedLength.get();
+            long current = position.get();
+            jobs.forEach(job -> job.updateFile(path, expected, current));
+        }
+    }
+
+    // 실제 다운로드 수행 - 임시 파일(.part)에 받은 뒤 완료 시 최종 경로로 이동, 정체 시 이어받기로 재시도
+    private Mono<Void> performDownload(String decodeUrl, Path finalTargetPath, SharedDownload progress) {
+        Path partPath = finalTargetPath.resolveSibling(finalTargetPath.getFileName() + ".part");
+        JavelinConfig.Transfer transfer = javelinConfig.getDownload().getTransfer();
+
+        // 이전 실행에서 남은 임시 파일은 내용을 신뢰할 수 없으므로 삭제 후 시작
+        return Mono.fromCallable(() -> Files.deleteIfExists(partPath))
+            .subscribeOn(blockingScheduler)
+            .then(Mono.defer(() -> performDownloadAttempt(decodeUrl, partPath, progress))
+                .retryWhen(Retry.backoff(transfer.getMaxRetries(), Duration.ofSeconds(1))
+                    .filter(this::isRetryable)
+                    .doBeforeRetry(signal -> log.warn("전송 재시도 {}/{} - URL: {}, 원인: {}",
+                            signal.totalRetries() + 1, transfer.getMaxRetries(), decodeUrl, signal.failure().getMessage()))
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure())))
             .then(Mono.fromCallable(() -> {
+                Files.move(partPath, finalTargetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.deleteIfExists(JavelinColdFile.coldPath(finalTargetPath));  // 다시 받은 경우 이전 콜드 사본 제거
+                catalog.requestRefresh();
+
                 // 파일 쓰기 완료 후 크기 확인
-                try {
-                    long fileSize = Files.size(finalTargetPath);
-                    log.info("다운로드 완료 - {} : {} bytes", finalTargetPath, fileSize);
-                    
-                    if (fileSize == 0) {
-                        log.warn("파일이 비어있습니다: {}", finalTargetPath);
-                    }
-                    
-                    return fileSize;
-                } catch (IOException e) {
-                    log.error("파일 크기 확인 실패: {}", finalTargetPath, e);
-                    return 0L;
+                long fileSize = Files.size(finalTargetPath);
+                log.info("다운로드 완료 - {} : {} bytes", finalTargetPath, fileSize);
+
+                if (fileSize == 0) {
+                    log.warn("파일이 비어있습니다: {}", finalTargetPath);
                 }
-            }).subscribeOn(Schedulers.boundedElastic()).then())
+
+                return fileSize;
+            }).subscribeOn(blockingScheduler).then())
             .doOnError(e -> log.error("다운로드 중 오류 발생 - URL: {}, Path: {}", decodeUrl, finalTargetPath, e));
     }
+
+    // 다운로드 1회 시도 - 임시 파일이 있으면 Range 요청으로 이어받기
+    private Mono<Void> performDownloadAttempt(String decodeUrl, Path partPath, SharedDownload progress) {
+        return Mono.fromCallable(() -> Files.exists(partPath) ? Files.size(partPath) : 0L)
+            .subscribeOn(blockingScheduler)
+            .flatMap(offset -> {
+                String host = URI.create(decodeUrl).getHost();
+                Duration firstByteTimeout = transferMonitor.firstByteTimeout(host);
+                AtomicBoolean headersReceived = new AtomicBoolean(false);
+                long requestStart = System.nanoTime();
+
+                if (offset > 0) {
+                    log.info("이어받기 요청 - {} bytes 부터 : {}", offset, decodeUrl);
+                }
+
+                return webClient.get()
+                    .uri(Objects.requireNonNull(decodeUrl))
+                    .headers(headers -> {
+                        if (offset > 0) {
+                            headers.setRange(List.of(HttpRange.createByteRange(offset)));
+                        }
+                    })
+                    .exchangeToMono(response -> {
+                        headersReceived.set(true);
+                        transferMonitor.recordLatency(host, Duration.ofNanos(System.nanoTime() - requestStart));
+
+                        if (!response.statusCode().is2xxSuccessful()) {
+                            return response.createError();
+                        }
+
+                        boolean resumed = offset > 0 && response.statusCode().value() == 206;
+                        if (offset > 0 && !resumed) {
+                            log.info("서버가 Range 요청을 지원하지 않아 처음부터 다시 받습니다: {}", decodeUrl);
+                        }
+
+                        long position = resumed ? offset : 0L;
+                        long contentLength = response.headers().contentLength().orElse(-1L);
+                        long expectedLength = contentLength < 0 ? -1L : position + contentLength;
+
+                        Flux<DataBuffer> body = transferMonitor.supervise(response.bodyToFlux(DataBuffer.class), decodeUrl)
+                            .doOnNext(dataBuffer -> {
+                                if (log.isDebugEnabled()) {
+                                    log.debug("Received DataBuffer of size: {} bytes", dataBuffer.readableByteCount());
+                                }
+                            });
+
+                        // 이 다운로드를 기다리는 갱신 작업에 진행 상황(받은 위치) 보고
+                        progress.expect(expectedLength);
+                        progress.moveTo(position);
+                        Flux<DataBuffer> reportedBody = body.doOnNext(dataBuffer -> progress.advance(dataBuffer.readableByteCount()));
+
+                        return fileWriter.write(reportedBody, partPath, position, expectedLength, !resumed)
+                            .doOnSuccess(written -> log.info("파일 쓰기 완료 - {} : {} bytes", partPath, written))
+                            .then();
+                    })
+                    // 응답 헤더가 첫 바이트 타임아웃 내에 도착하지 않으면 중단 (본문 전송 중에는 supervise 가 감시)
+                    .timeout(Mono.delay(firstByteTimeout)
+                        .flatMap(tick -> headersReceived.get() ? Mono.never() : Mono.just(tick)))
+                    .onErrorMap(TimeoutException.class,
+                            e -> new JavelinTransferMonitor.TransferStalledException("첫 바이트 타임아웃 초과 (" + firstByteTimeout.toMillis() + " ms) - " + decodeUrl, e));
+            });
+    }
+
+    // 4xx 응답은 재시도해도 결과가 같으므로 제외
+    private boolean isRetryable(Throwable e) {
+        return !(e instanceof WebClientResponseException responseException && responseException.getStatusCode().is4xxClientError());
+    }
 }
@@ -0,0 +1,249 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+public class JavelinFileWriter
+{
+    private static final int ALIGNMENT = 4096;  // 파일시스템 블록 정렬 단위
+
+    private final JavelinConfig.Writer writerConfig;
+    private final Scheduler writeScheduler;
+    private final int chunkSize;
+    private final BlockingQueue<ByteBuffer> bufferPool;
+    private final AtomicInteger allocatedBuffers = new AtomicInteger();
+    private final AtomicLong bufferBytesInUse = new AtomicLong();
+    private final AtomicLong peakBufferBytes = new AtomicLong();
+    private final DistributionSummary writeThroughput;
+
+    public JavelinFileWriter(JavelinConfig javelinConfig, MeterRegistry meterRegistry)
+    {
+        this.writerConfig = javelinConfig.getDownload().getWriter();
+        this.chunkSize = Math.max(ALIGNMENT, (int) (writerConfig.getChunkSize().toBytes() / ALIGNMENT * ALIGNMENT));
+        this.bufferPool = new ArrayBlockingQueue<>(Math.max(1, writerConfig.getPoolSize()));
+        this.writeScheduler = Schedulers.newBoundedElastic(writerConfig.getThreads(), Integer.MAX_VALUE, "javelin-writer");
+
+        this.writeThroughput = DistributionSummary.builder("javelin.download.write.throughput")
+                .description("파일별 디스크 쓰기 처리량")
+                .baseUnit("bytes/s")
+                .register(meterRegistry);
+        Gauge.builder("javelin.download.write.buffer.peak", peakBufferBytes, AtomicLong::get)
+                .description("쓰기 버퍼 최대 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("javelin.download.write.buffer.in-use", bufferBytesInUse, AtomicLong::get)
+                .description("쓰기 버퍼 현재 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy()
+    {
+        writeScheduler.dispose();
+    }
+
+    // 수신 버퍼를 큰 정렬 단위로 모아 position 위치부터 기록하고, 완료 시 한 번만 fsync 후 기록한 바이트 수 반환
+    // expectedLength 가 0 이상이면 해당 크기로 미리 확장하고 완료 시 크기를 검증
+    public Mono<Long> write(Flux<DataBuffer> body, Path target, long position, long expectedLength, boolean truncate)
+    {
+        return Mono.using(
+                () -> new WriteSession(target, position, expectedLength, truncate),
+                session -> body
+                    .publishOn(writeScheduler, writerConfig.getPrefetch())  // 쓰기가 밀리면 네트워크 읽기도 멈춤
+                    .doOnNext(session::append)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then(Mono.fromCallable(session::complete)),
+                WriteSession::close)
+            .subscribeOn(writeScheduler);
+    }
+
+    private ByteBuffer acquireBuffer()
+    {
+        ByteBuffer buffer = bufferPool.poll();
+        if (buffer == null)
+        {
+            if (allocatedBuffers.incrementAndGet() <= writerConfig.getPoolSize())
+            {
+                buffer = ByteBuffer.allocateDirect(chunkSize);
+            }
+            else
+            {
+                // 풀 소진 시 임시 힙 버퍼 사용 (반환 시 버림)
+                allocatedBuffers.decrementAndGet();
+                buffer = ByteBuffer.allocate(chunkSize);
+            }
+        }
+        long inUse = bufferBytesInUse.addAndGet(chunkSize);
+        peakBufferBytes.accumulateAndGet(inUse, Math::max);
+        return buffer;
+    }
+
+    private void releaseBuffer(ByteBuffer buffer)
+    {
+        bufferBytesInUse.addAndGet(-chunkSize);
+        buffer.clear();
+        if (buffer.isDirect())
+        {
+            bufferPool.offer(buffer);
+        }
+    }
+
+    private final class WriteSession
+    {
+        private final Path target;
+        private final FileChannel channel;
+        private final long expectedLength;
+        private final long startPosition;
+        private final long startNanos = System.nanoTime();
+        private ByteBuffer chunk;
+        private long position;
+        private boolean completed;
+
+        private WriteSession(Path target, long position, long expectedLength, boolean truncate) throws IOException
+        {
+            Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (truncate)
+            {
+                options.add(StandardOpenOption.TRUNCATE_EXISTING);
+            }
+
+            this.target = target;
+            this.channel = FileChannel.open(target, options);
+            this.expectedLength = expectedLength;
+            this.startPosition = position;
+            this.position = position;
+
+            // Content-Length 만큼 미리 확장 (지연 할당 파일시스템이 연속 영역을 잡을 수 있도록)
+            if (writerConfig.isPreallocate() && expectedLength > channel.size())
+            {
+                channel.write(ByteBuffer.wrap(new byte[1]), expectedLength - 1);
+            }
+
+            this.chunk = acquireBuffer();
+            // 이어받기 위치가 정렬되지 않은 경우 첫 묶음을 잘라 이후 쓰기가 블록 경계에 맞도록 함
+            chunk.limit(chunkSize - (int) (position % ALIGNMENT));
+        }
+
+        private void append(DataBuffer dataBuffer)
+        {
+            try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers())
+            {
+                while (iterator.hasNext())
+                {
+                    ByteBuffer source = iterator.next();
+                    while (source.hasRemaining())
+                    {
+                        int length = Math.min(source.remaining(), chunk.remaining());
+                        int limit = source.limit();
+                        source.limit(source.position() + length);
+                        chunk.put(source);
+                        source.limit(limit);
+
+                        if (!chunk.hasRemaining())
+                        {
+                            flush();
+                        }
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+            finally
+            {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+
+        private void flush() throws IOException
+        {
+            chunk.flip();
+            while (chunk.hasRemaining())
+            {
+                position += channel.write(chunk, position);
+            }
+            chunk.clear();
+        }
+
+        private long complete() throws IOException
+        {
+            flush();
+
+            if (expectedLength >= 0 && position != expectedLength)
+            {
+                throw new IOException("수신 크기 불일치 (" + position + " / " + expectedLength + " bytes) - " + target);
+            }
+
+            channel.force(true);  // 게시 전 한 번만 디스크 동기화
+            completed = true;
+
+            long written = position - startPosition;
+            long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+            long bytesPerSecond = written * 1_000_000_000L / elapsedNanos;
+            writeThroughput.record(bytesPerSecond);
+            log.info("쓰기 완료 - {} : {} bytes, {} KB/s, 쓰기 버퍼 최대 {} KB",
+                    target, written, bytesPerSecond / 1024, peakBufferBytes.get() / 1024);
+            return written;
+        }
+
+        private void close()
+        {
+            try
+            {
+                // 실패/취소 시 미리 확장한 영역을 잘라 실제 기록한 위치에서 이어받을 수 있도록 함
+                if (!completed && channel.isOpen())
+                {
+                    channel.truncate(position);
+                }
+            }
+            catch (IOException e)
+            {
+                log.warn("임시 파일 크기 정리 실패: {}", target);
+            }
+            finally
+            {
+                try
+                {
+                    channel.close();
+                }
+                catch (IOException e)
+                {
+                    log.warn("임시 파일 닫기 실패: {}", target);
+                }
+                if (chunk != null)
+                {
+                    releaseBuffer(chunk);
+                    chunk = null;
+                }
+            }
+        }
+    }
+}
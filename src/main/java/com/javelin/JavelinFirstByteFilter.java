@@ -0,0 +1,228 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+
+// 첫 바이트까지 걸린 시간 측정
+// - 기동 후 첫 응답: JVM 시작부터 첫 본문 쓰기까지, /actuator 요청 제외 (AOT 캐시/CDS 적용 효과 확인용)
+// - 파일 다운로드: 요청 시작부터 본문 첫 쓰기까지, 예열된 파일(warm)과 그렇지 않은 파일(cold) 구분
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JavelinFirstByteFilter extends OncePerRequestFilter
+{
+    private static final String FILE_PREFIX = "/getFile/";
+    private static final String ACTUATOR_PREFIX = "/actuator/";
+
+    private final AtomicLong timeToFirstByte = new AtomicLong(-1);
+    private final JavelinWarmup warmup;
+    private final Timer warmFirstByte;
+    private final Timer coldFirstByte;
+
+    public JavelinFirstByteFilter(MeterRegistry meterRegistry, JavelinWarmup warmup)
+    {
+        this.warmup = warmup;
+        Gauge.builder("javelin.startup.time-to-first-byte", timeToFirstByte, AtomicLong::get)
+                .description("JVM 시작부터 첫 응답 본문 쓰기까지 걸린 시간, /actuator 제외 (측정 전에는 -1)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.warmFirstByte = firstByteTimer(meterRegistry, "warm");
+        this.coldFirstByte = firstByteTimer(meterRegistry, "cold");
+    }
+
+    private static Timer firstByteTimer(MeterRegistry meterRegistry, String cache)
+    {
+        return Timer.builder("javelin.download.time-to-first-byte")
+                .description("파일 다운로드 요청부터 본문 첫 바이트 전송까지 걸린 시간")
+                .tag("cache", cache)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException
+    {
+        String uri = request.getRequestURI();
+        boolean file = uri.startsWith(FILE_PREFIX);
+        boolean startup = timeToFirstByte.get() < 0 && !uri.startsWith(ACTUATOR_PREFIX);  // 상태 확인 요청은 제외
+        if (!file && !startup)
+        {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Timer downloadTimer = null;
+        if (file)
+        {
+            String relativePath = URLDecoder.decode(uri.substring(FILE_PREFIX.length()), StandardCharsets.UTF_8);
+            boolean warm = warmup.isWarm(relativePath);
+            if (!warm && request.getHeader("Range") == null)
+            {
+                warmup.readAhead(relativePath);
+            }
+            downloadTimer = warm ? warmFirstByte : coldFirstByte;
+        }
+
+        long startNanos = System.nanoTime();
+        Timer timer = downloadTimer;
+        filterChain.doFilter(request, new FirstByteResponse(response, () -> {
+            if (timer != null)
+            {
+                timer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+            }
+            if (startup)
+            {
+                recordStartup(request);
+            }
+        }));
+    }
+
+    // 기동 후 처음으로 본문을 쓰기 시작한 시점을 한 번만 기록
+    private void recordStartup(HttpServletRequest request)
+    {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (timeToFirstByte.compareAndSet(-1, uptime))
+        {
+            log.info("기동 후 첫 응답 바이트까지 {} ms ({} {})", uptime, request.getMethod(), request.getRequestURI());
+        }
+    }
+
+    // 본문 첫 쓰기 시점에 콜백을 한 번 호출하는 응답 래퍼
+    private static final class FirstByteResponse extends HttpServletResponseWrapper
+    {
+        private final Runnable onFirstByte;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean recorded;
+
+        FirstByteResponse(HttpServletResponse response, Runnable onFirstByte)
+        {
+            super(response);
+            this.onFirstByte = onFirstByte;
+        }
+
+        private void firstByte()
+        {
+            if (!recorded)
+            {
+                recorded = true;
+                onFirstByte.run();
+            }
+        }
+
+        // 화면(Thymeleaf/문자열 응답)은 Writer 로 씀
+        @Override
+        public PrintWriter getWriter() throws IOException
+        {
+            if (writer == null)
+            {
+                writer = new PrintWriter(super.getWriter())
+                {
+                    @Override
+                    public void write(int c)
+                    {
+                        firstByte();
+                        super.write(c);
+                    }
+
+                    @Override
+                    public void write(char[] buf, int off, int len)
+                    {
+                        if (len > 0)
+                        {
+                            firstByte();
+                        }
+                        super.write(buf, off, len);
+                    }
+
+                    @Override
+                    public void write(String str, int off, int len)
+                    {
+                        if (len > 0)
+                        {
+                            firstByte();
+                        }
+                        super.write(str, off, len);
+                    }
+                };
+            }
+            return writer;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException
+        {
+            if (outputStream == null)
+            {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream()
+                {
+                    @Override
+                    public void write(int b) throws IOException
+                    {
+                        firstByte();
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException
+                    {
+                        if (len > 0)
+                        {
+                            firstByte();
+                        }
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException
+                    {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException
+                    {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady()
+                    {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener)
+                    {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
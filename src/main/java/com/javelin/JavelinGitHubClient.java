@@ -0,0 +1,149 @@
+package com.javelin;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+// GitHub API 공용 클라이언트 - 모든 GitHub 기반 소스가 같은 요청 한도를 공유
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinGitHubClient
+{
+    private final WebClient webClient;
+    private final JavelinConfig javelinConfig;
+
+    private final AtomicInteger remaining = new AtomicInteger(-1);  // -1 : 아직 모름
+    private final AtomicLong resetEpochSecond = new AtomicLong();
+    private volatile boolean tokenRejected;
+
+    public <T> Mono<T> get(String url, ParameterizedTypeReference<T> type)
+    {
+        return Mono.defer(() -> {
+                if (!reserveBudget())
+                {
+                    return Mono.error(new RateLimitedException(Instant.ofEpochSecond(resetEpochSecond.get())));
+                }
+
+                boolean authorized = hasToken();
+                return webClient.get()
+                    .uri(Objects.requireNonNull(url))
+                    .headers(headers -> {
+                        if (authorized)
+                        {
+                            headers.setBearerAuth(javelinConfig.getGitHubToken().trim());
+                        }
+                    })
+                    .exchangeToMono(response -> {
+                        updateRateLimit(response.headers().asHttpHeaders());
+                        int status = response.statusCode().value();
+
+                        if (status == 401 && authorized)
+                        {
+                            // 잘못된 토큰은 이후 요청에서 제외하고 비인증으로 한 번 더 시도
+                            tokenRejected = true;
+                            log.warn("GitHub 토큰 인증 실패 (401). 이후 요청은 비인증으로 진행합니다.");
+                            return response.releaseBody().then(Mono.<T>error(new TokenRejectedException()));
+                        }
+                        if ((status == 403 || status == 429) && remaining.get() == 0)
+                        {
+                            return response.releaseBody().then(Mono.<T>error(new RateLimitedException(Instant.ofEpochSecond(resetEpochSecond.get()))));
+                        }
+                        if (!response.statusCode().is2xxSuccessful())
+                        {
+                            return response.createError();
+                        }
+                        return response.bodyToMono(type);
+                    });
+            })
+            .retryWhen(Retry.max(1).filter(TokenRejectedException.class::isInstance));
+    }
+
+    // 남은 요청 수가 예비분 이하이면 초기화 시각까지 호출하지 않음
+    private boolean reserveBudget()
+    {
+        if (Instant.now().getEpochSecond() >= resetEpochSecond.get())
+        {
+            return true;
+        }
+
+        int reserve = javelinConfig.getVersionCache().getGithubReserve();
+        while (true)
+        {
+            int current = remaining.get();
+            if (current < 0)
+            {
+                return true;
+            }
+            if (current <= reserve)
+            {
+                return false;
+            }
+            if (remaining.compareAndSet(current, current - 1))
+            {
+                return true;
+            }
+        }
+    }
+
+    private void updateRateLimit(HttpHeaders headers)
+    {
+        String remainingHeader = headers.getFirst("X-RateLimit-Remaining");
+        String resetHeader = headers.getFirst("X-RateLimit-Reset");
+
+        try
+        {
+            if (remainingHeader != null)
+            {
+                remaining.set(Integer.parseInt(remainingHeader));
+            }
+            if (resetHeader != null)
+            {
+                resetEpochSecond.set(Long.parseLong(resetHeader));
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            log.warn("GitHub 요청 한도 헤더 해석 실패: remaining={}, reset={}", remainingHeader, resetHeader);
+        }
+
+        if (log.isDebugEnabled())
+        {
+            log.debug("GitHub 요청 한도 - 남은 요청: {}, 초기화: {}", remaining.get(), Instant.ofEpochSecond(resetEpochSecond.get()));
+        }
+    }
+
+    private boolean hasToken()
+    {
+        String token = javelinConfig.getGitHubToken();
+        return !tokenRejected && token != null && !token.trim().isEmpty();
+    }
+
+    // 요청 한도 소진 - 초기화 시각 전까지 GitHub 호출 보류
+    public static class RateLimitedException extends RuntimeException
+    {
+        public RateLimitedException(Instant resetAt)
+        {
+            super("GitHub API 요청 한도 소진 (초기화: " + resetAt + ")");
+        }
+    }
+
+    private static class TokenRejectedException extends RuntimeException
+    {
+        private TokenRejectedException()
+        {
+            super("GitHub 토큰 인증 실패");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.javelin;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 렌더링된 화면 캐시 - 카탈로그 세대가 바뀔 때만 다시 렌더링하고, 압축본과 함께 보관해 요청 시 복사만 수행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinPageCache
+{
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final ITemplateEngine templateEngine;
+    private final JavelinCatalog catalog;
+    private final Map<String, Page> pages = new ConcurrentHashMap<>();
+
+    // 렌더링 결과는 세대별 Future 로 보관 - 렌더링은 맵 잠금 밖에서 한 요청만 수행하고 나머지는 완료를 기다림
+    private record Page(long generation, CompletableFuture<JavelinPrecompressed> body) {}
+
+    // handler 는 전달된 스냅샷으로 모델을 채우고 뷰 이름을 반환 (캐시가 유효하면 호출되지 않음)
+    public ResponseEntity<byte[]> respond(String key, BiFunction<JavelinCatalog.Snapshot, Model, String> handler,
+                                          HttpServletRequest request, HttpServletResponse response)
+    {
+        JavelinCatalog.Snapshot snapshot = catalog.current();
+        long generation = snapshot.generation();
+        String etag = "\"" + key + "-" + generation + "\"";
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        ResponseEntity<byte[]> notModified = JavelinPrecompressed.notModifiedIfMatches(ifNoneMatch, etag);
+        if (notModified != null)
+        {
+            return notModified;
+        }
+
+        // 더 최신 세대가 이미 있으면 그대로 사용 (본문의 ETag 는 본문을 만든 세대 기준이므로 서로 일치)
+        Page fresh = new Page(generation, new CompletableFuture<>());
+        Page page = pages.compute(key, (k, cached) -> cached != null && cached.generation() >= generation ? cached : fresh);
+        if (page == fresh)
+        {
+            try
+            {
+                fresh.body().complete(render(snapshot, handler, etag, request, response));
+            }
+            catch (RuntimeException e)
+            {
+                fresh.body().completeExceptionally(e);
+                pages.remove(key, fresh);
+                throw e;
+            }
+        }
+        return page.body().join().respond(ifNoneMatch, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // 링크 표현식(@{...})이 컨텍스트 경로를 알 수 있도록 현재 요청으로 웹 컨텍스트 구성
+    private JavelinPrecompressed render(JavelinCatalog.Snapshot snapshot, BiFunction<JavelinCatalog.Snapshot, Model, String> handler, String etag,
+                                        HttpServletRequest request, HttpServletResponse response)
+    {
+        ExtendedModelMap model = new ExtendedModelMap();
+        String view = handler.apply(snapshot, model);
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(request.getServletContext());
+        WebContext context = new WebContext(application.buildExchange(request, response), Locale.KOREAN, model);
+        byte[] html = templateEngine.process(view, context).getBytes(StandardCharsets.UTF_8);
+        log.info("화면 렌더링 - {} ({} bytes, ETag {})", view, html.length, etag);
+        return new JavelinPrecompressed(html, TEXT_HTML_UTF8, etag);
+    }
+}
@@ -0,0 +1,159 @@
+package com.javelin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+// 미리 압축해 둔 응답 본문 - ETag/304 와 Accept-Encoding 협상을 처리
+public class JavelinPrecompressed
+{
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final MediaType mediaType;
+    private final String etag;
+
+    public JavelinPrecompressed(byte[] identity, MediaType mediaType, String etag)
+    {
+        this.identity = identity;
+        this.gzip = gzip(identity);
+        this.mediaType = mediaType;
+        this.etag = etag;
+    }
+
+    public String getEtag()
+    {
+        return etag;
+    }
+
+    public byte[] getIdentity()
+    {
+        return identity;
+    }
+
+    // 인코딩별로 본문이 다르므로 gzip 표현은 별도 ETag 사용 (예: "123" / "123-gz")
+    public ResponseEntity<byte[]> respond(String ifNoneMatch, String acceptEncoding)
+    {
+        boolean useGzip = acceptsGzip(acceptEncoding) && gzip.length < identity.length;
+        String representationEtag = useGzip ? gzipEtag(etag) : etag;
+        if (matches(ifNoneMatch, representationEtag))
+        {
+            return notModified(representationEtag);
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(representationEtag)
+                .contentType(mediaType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (useGzip)
+        {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(useGzip ? gzip : identity);
+    }
+
+    public static ResponseEntity<byte[]> notModified(String etag)
+    {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    // 본문을 만들기 전에 확인 - 두 표현 중 하나라도 일치하면 일치한 ETag 로 304, 아니면 null
+    public static ResponseEntity<byte[]> notModifiedIfMatches(String ifNoneMatch, String etag)
+    {
+        if (matches(ifNoneMatch, etag))
+        {
+            return notModified(etag);
+        }
+        String gzipEtag = gzipEtag(etag);
+        return matches(ifNoneMatch, gzipEtag) ? notModified(gzipEtag) : null;
+    }
+
+    public static String gzipEtag(String etag)
+    {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    // If-None-Match 비교 (약한 비교, 목록 및 * 지원)
+    public static boolean matches(String ifNoneMatch, String etag)
+    {
+        if (ifNoneMatch == null || etag == null)
+        {
+            return false;
+        }
+        String bareEtag = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(","))
+        {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(bareEtag))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag)
+    {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding)
+    {
+        if (acceptEncoding == null)
+        {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(","))
+        {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip"))
+            {
+                return quality(parts) > 0;
+            }
+        }
+        return false;
+    }
+
+    // q 값 (없으면 1, 형식이 잘못되면 거부로 처리) - q=0, q=0.0, Q=0 모두 거부
+    private static double quality(String[] parts)
+    {
+        for (int i = 1; i < parts.length; i++)
+        {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q"))
+            {
+                try
+                {
+                    return Double.parseDouble(parameter[1].trim());
+                }
+                catch (NumberFormatException e)
+                {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] source)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out))
+        {
+            gzipOut.write(source);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
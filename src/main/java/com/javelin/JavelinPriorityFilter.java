@@ -0,0 +1,38 @@
+package com.javelin;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// HTTP/2 응답 우선순위 힌트 (RFC 9218 Priority 헤더) - 목록/메타데이터 응답을 대용량 파일 전송보다 먼저 보내도록 프록시/클라이언트에 알림
+@Component
+public class JavelinPriorityFilter extends OncePerRequestFilter
+{
+    private static final String PRIORITY = "Priority";
+    private static final String BULK_PRIORITY = "u=5, i";  // 낮은 우선순위, 다른 전송과 교대로 전송 가능
+    private static final String INTERACTIVE_PRIORITY = "u=1";  // 화면/카탈로그/검색 응답
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException
+    {
+        if ("HTTP/2.0".equals(request.getProtocol()) && !response.containsHeader(PRIORITY))
+        {
+            response.setHeader(PRIORITY, isBulk(request) ? BULK_PRIORITY : INTERACTIVE_PRIORITY);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 파일 본문 전송 (Range 요청 포함)
+    private static boolean isBulk(HttpServletRequest request)
+    {
+        return request.getRequestURI().startsWith("/getFile/") || request.getHeader(HttpHeaders.RANGE) != null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.javelin;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+
+// 단일 소스/아티팩트 갱신 작업 - Reactor Context 로 다운로드 파이프라인에 전달되어 진행 상황을 수집
+@Getter
+public class JavelinRefreshJob
+{
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final String target;
+    private final boolean force;
+    private final Instant createdAt = Instant.now();
+    private final Map<Path, Long> receivedBytes = new ConcurrentHashMap<>();  // 파일별 받은 위치 (이어받기 시작 위치 포함)
+    private final Map<Path, Long> expectedBytes = new ConcurrentHashMap<>();  // 파일별 전체 크기 (처음 확인한 값만 사용)
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public JavelinRefreshJob(String id, String target, boolean force)
+    {
+        this.id = id;
+        this.target = target;
+        this.force = force;
+    }
+
+    // 파일 진행 상황 갱신 - 재시도/이어받기나 진행 중인 다운로드에 합류해도 파일별 전체 크기는 한 번만 반영
+    public void updateFile(Path file, long expectedLength, long position)
+    {
+        if (expectedLength >= 0)
+        {
+            expectedBytes.putIfAbsent(file, expectedLength);
+        }
+        receivedBytes.put(file, position);
+    }
+
+    public void start()
+    {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    public void finish(Throwable failure)
+    {
+        finishedAt = Instant.now();
+        if (failure != null)
+        {
+            error = failure.getMessage();
+            status = Status.FAILED;
+        }
+        else
+        {
+            status = Status.DONE;
+        }
+    }
+
+    public boolean isFinished()
+    {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    // 현재 진행 상황 (전송량, 초당 전송량, 남은 예상 시간)
+    public Progress progress()
+    {
+        long received = sum(receivedBytes);
+        long expected = sum(expectedBytes);
+        long bytesPerSecond = 0;
+        Long etaSeconds = null;
+
+        if (startedAt != null)
+        {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+            bytesPerSecond = received * 1000 / elapsedMillis;
+            if (!isFinished() && bytesPerSecond > 0 && expected > received)
+            {
+                etaSeconds = (expected - received) / bytesPerSecond;
+            }
+        }
+        return new Progress(id, target, status, received, expected, bytesPerSecond, etaSeconds, error);
+    }
+
+    private static long sum(Map<Path, Long> bytes)
+    {
+        return bytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public record Progress(String id, String target, Status status, long bytes, long totalBytes,
+                           long bytesPerSecond, Long etaSeconds, String error) {}
+}
@@ -0,0 +1,107 @@
+package com.javelin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+
+// 갱신 작업 대기열 - 정기 동기화 주기와 별도로 즉시 실행되며 동시 실행 수만 제한
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinRefreshJobs
+{
+    private static final Duration RETENTION = Duration.ofHours(1);  // 완료된 작업 조회 가능 시간
+
+    private final JavelinConfig javelinConfig;
+    private final JavelinDownloadFiles javelinDownloadFiles;
+    private final Map<String, JavelinRefreshJob> jobs = new ConcurrentHashMap<>();
+    private final Sinks.Many<JavelinRefreshJob> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable worker;
+
+    @PostConstruct
+    public void init()
+    {
+        worker = queue.asFlux()
+                .flatMap(this::run, javelinConfig.getRefresh().getConcurrency())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy()
+    {
+        if (worker != null)
+        {
+            worker.dispose();
+        }
+    }
+
+    // 갱신 작업 등록 - 같은 대상이 이미 대기/실행 중이면 기존 작업 반환
+    // (force 요청은 force 작업에만 합류하고, 일반 작업이 진행 중이면 새 force 작업이 그 다운로드를 기다린 뒤 다시 받음)
+    public synchronized JavelinRefreshJob submit(String target, boolean force)
+    {
+        purgeFinished();
+
+        for (JavelinRefreshJob job : jobs.values())
+        {
+            if (job.getTarget().equalsIgnoreCase(target) && !job.isFinished() && (job.isForce() || !force))
+            {
+                return job;
+            }
+        }
+
+        JavelinRefreshJob job = new JavelinRefreshJob(UUID.randomUUID().toString(), target, force);
+        jobs.put(job.getId(), job);
+
+        Sinks.EmitResult result = queue.tryEmitNext(job);
+        if (result.isFailure())
+        {
+            job.finish(new IllegalStateException("갱신 작업 등록 실패: " + result));
+        }
+        log.info("갱신 작업 등록 - {} : {} (force={})", job.getId(), target, force);
+        return job;
+    }
+
+    public Optional<JavelinRefreshJob> find(String id)
+    {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    private Mono<Void> run(JavelinRefreshJob job)
+    {
+        return Mono.defer(() -> {
+                job.start();
+                log.info("갱신 작업 시작 - {} : {}", job.getId(), job.getTarget());
+                return javelinDownloadFiles.refresh(job.getTarget());
+            })
+            .contextWrite(Context.of(JavelinRefreshJob.class, job))
+            .doOnSuccess(v -> {
+                job.finish(null);
+                log.info("갱신 작업 완료 - {} : {}", job.getId(), job.getTarget());
+            })
+            .onErrorResume(e -> {
+                job.finish(e);
+                log.error("갱신 작업 실패 - {} : {}", job.getId(), e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private void purgeFinished()
+    {
+        Instant threshold = Instant.now().minus(RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,134 @@
+package com.javelin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinTransferMonitor
+{
+    private final JavelinConfig javelinConfig;
+    private final Map<String, HostLatency> hostLatencies = new ConcurrentHashMap<>();
+
+    // 호스트별 첫 바이트 타임아웃 - 과거 응답 지연 시간(평균 + 편차) 기반, 이력이 없으면 상한값 사용
+    public Duration firstByteTimeout(String host)
+    {
+        JavelinConfig.Transfer transfer = javelinConfig.getDownload().getTransfer();
+        HostLatency latency = host == null ? null : hostLatencies.get(host);
+
+        if (latency == null)
+        {
+            return transfer.getMaxFirstByteTimeout();
+        }
+
+        long derivedMillis = latency.timeoutMillis(transfer.getLatencyFactor());
+        long minMillis = transfer.getMinFirstByteTimeout().toMillis();
+        long maxMillis = transfer.getMaxFirstByteTimeout().toMillis();
+        return Duration.ofMillis(Math.max(minMillis, Math.min(maxMillis, derivedMillis)));
+    }
+
+    // 요청 시작부터 응답 헤더 수신까지의 지연 시간 기록 (연결 시간 포함)
+    public void recordLatency(String host, Duration elapsed)
+    {
+        if (host == null)
+        {
+            return;
+        }
+        hostLatencies.computeIfAbsent(host, k -> new HostLatency()).update(elapsed.toMillis());
+        if (log.isDebugEnabled())
+        {
+            log.debug("호스트 응답 지연 기록 - {} : {} ms (타임아웃 {} ms)", host, elapsed.toMillis(), firstByteTimeout(host).toMillis());
+        }
+    }
+
+    // 본문 전송 감시 - DataBuffer 사이 유휴 타임아웃과 구간별 최소 전송 속도 검사
+    public Flux<DataBuffer> supervise(Flux<DataBuffer> body, String url)
+    {
+        JavelinConfig.Transfer transfer = javelinConfig.getDownload().getTransfer();
+        long minBytesPerSecond = transfer.getMinRate().toBytes();
+        long windowNanos = transfer.getRateWindow().toNanos();
+
+        return Flux.defer(() -> {
+            RateWindow window = new RateWindow(System.nanoTime());
+
+            return body
+                .timeout(transfer.getIdleTimeout())
+                .onErrorMap(TimeoutException.class,
+                        e -> new TransferStalledException("유휴 타임아웃 초과 (" + transfer.getIdleTimeout().toSeconds() + "초) - " + url, e))
+                .<DataBuffer>handle((dataBuffer, sink) -> {
+                    long now = System.nanoTime();
+                    window.bytes += dataBuffer.readableByteCount();
+
+                    long elapsedNanos = now - window.startNanos;
+                    if (elapsedNanos >= windowNanos)
+                    {
+                        long bytesPerSecond = window.bytes * 1_000_000_000L / elapsedNanos;
+                        if (minBytesPerSecond > 0 && bytesPerSecond < minBytesPerSecond)
+                        {
+                            DataBufferUtils.release(dataBuffer);
+                            sink.error(new TransferStalledException("최소 전송 속도 미달 (" + bytesPerSecond + " B/s < " + minBytesPerSecond + " B/s) - " + url, null));
+                            return;
+                        }
+                        window.startNanos = now;
+                        window.bytes = 0;
+                    }
+                    sink.next(dataBuffer);
+                });
+        });
+    }
+
+    // 전송 정체 예외 - 재시도(이어받기) 대상
+    public static class TransferStalledException extends RuntimeException
+    {
+        public TransferStalledException(String message, Throwable cause)
+        {
+            super(message, cause);
+        }
+    }
+
+    private static class RateWindow
+    {
+        private long startNanos;
+        private long bytes;
+
+        private RateWindow(long startNanos)
+        {
+            this.startNanos = startNanos;
+        }
+    }
+
+    // RFC 6298 방식의 평활 지연 시간/편차 추정
+    private static class HostLatency
+    {
+        private double smoothedMillis = -1;
+        private double deviationMillis;
+
+        private synchronized void update(long sampleMillis)
+        {
+            if (smoothedMillis < 0)
+            {
+                smoothedMillis = sampleMillis;
+                deviationMillis = sampleMillis / 2.0;
+                return;
+            }
+            deviationMillis = 0.75 * deviationMillis + 0.25 * Math.abs(smoothedMillis - sampleMillis);
+            smoothedMillis = 0.875 * smoothedMillis + 0.125 * sampleMillis;
+        }
+
+        private synchronized long timeoutMillis(double factor)
+        {
+            return (long) (smoothedMillis + factor * deviationMillis);
+        }
+    }
+}
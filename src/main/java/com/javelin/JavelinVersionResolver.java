@@ -0,0 +1,68 @@
+package com.javelin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+// 소스별 최신 버전 캐시 - TTL 내에는 캐시를 사용하고, 만료 후에는 이전 값을 반환하면서 백그라운드로 갱신
+// 캐시된 값이 없을 때 조회에 실패하면 오류를 그대로 전달 (정기 동기화는 소스 단위로 무시, 갱신 작업은 실패로 기록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JavelinVersionResolver
+{
+    private final JavelinConfig javelinConfig;
+    private final Map<String, CachedVersion> cache = new ConcurrentHashMap<>();
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<String> resolve(String source, Supplier<Mono<String>> lookup)
+    {
+        return Mono.defer(() -> {
+            CachedVersion cached = cache.get(source);
+            Duration ttl = javelinConfig.getVersionCache().getTtl();
+
+            if (cached == null)
+            {
+                return refresh(source, lookup);
+            }
+            if (cached.resolvedAt().plus(ttl).isBefore(Instant.now()))
+            {
+                // 만료된 값을 즉시 반환하고 갱신은 백그라운드에서 진행 (요청 한도 소진 시에도 동기화가 멈추지 않음)
+                refresh(source, lookup).subscribe(value -> {}, e -> {});  // 실패는 refresh 에서 기록, 이전 값 계속 사용
+                log.info("{} 캐시 만료, 이전 값 사용 후 갱신: {}", source, cached.value());
+            }
+            return Mono.just(cached.value());
+        });
+    }
+
+    // 캐시 무효화 - 다음 조회 시 즉시 원본 확인
+    public void evict(String source)
+    {
+        cache.remove(source);
+    }
+
+    private Mono<String> refresh(String source, Supplier<Mono<String>> lookup)
+    {
+        return inFlight.computeIfAbsent(source, key -> lookup.get()
+                .filter(value -> !value.isEmpty())
+                .doOnNext(value -> {
+                    cache.put(source, new CachedVersion(value, Instant.now()));
+                    log.info("{} 최신 버전 확인: {}", source, value);
+                })
+                .doOnError(JavelinGitHubClient.RateLimitedException.class, e -> log.warn("{} 버전 확인 보류 - {}", source, e.getMessage()))
+                .doOnError(e -> !(e instanceof JavelinGitHubClient.RateLimitedException),
+                        e -> log.error("{} 버전 확인 실패: {}", source, e.getMessage()))
+                .doFinally(signal -> inFlight.remove(source))
+                .cache());
+    }
+
+    private record CachedVersion(String value, Instant resolvedAt) {}
+}
@@ -0,0 +1,235 @@
+package com.javelin;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// 페이지 캐시 예열 - 동기화로 새로 게시된 대상 파일을 순차 매핑 읽기로 미리 적재하고, 서빙 시에는 앞부분을 미리 읽음
+@Slf4j
+@Component
+public class JavelinWarmup
+{
+    private static final long MAP_CHUNK = 64L * 1024 * 1024;  // 한 번에 매핑할 크기 (주소 공간 사용 제한)
+    private static final int READ_AHEAD_HISTORY = 1024;
+
+    private final JavelinConfig javelinConfig;
+    private final Scheduler blockingScheduler;
+    private final List<Pattern> targets;
+    private final Map<String, Long> warmSet = new LinkedHashMap<>();  // 적재한 파일 → 크기 (오래된 순)
+    private final Set<String> readingAhead = ConcurrentHashMap.newKeySet();  // 진행 중인 미리 읽기 (경로당 하나)
+    private final Map<String, Boolean> readAheadDone = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest)
+        {
+            return size() > READ_AHEAD_HISTORY;
+        }
+    });  // 최근 미리 읽은 경로 - 다시 요청되어도 중복으로 읽지 않음 (파일이 바뀌면 제거)
+    private final AtomicLong warmBytes = new AtomicLong();
+    private final Counter warmedBytes;
+    private final Counter readAheadBytes;
+    private volatile Set<String> warmPaths = Set.of();
+    private long warmedGeneration = -1;
+
+    public JavelinWarmup(JavelinConfig javelinConfig, Scheduler blockingScheduler, MeterRegistry meterRegistry)
+    {
+        this.javelinConfig = javelinConfig;
+        this.blockingScheduler = blockingScheduler;
+        this.targets = javelinConfig.getWarmup().getPaths().stream().map(JavelinClassifier::compileGlob).toList();
+        this.warmedBytes = Counter.builder("javelin.warmup.bytes")
+                .description("동기화 후 페이지 캐시에 미리 적재한 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.readAheadBytes = Counter.builder("javelin.warmup.read-ahead.bytes")
+                .description("서빙 시작 시 미리 읽은 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("javelin.warmup.set.bytes", warmBytes, AtomicLong::get)
+                .description("예열된 파일 총량 (budget 이하)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 새 카탈로그 게시 후 이번 세대에 바뀐 대상 파일만 예열
+    @EventListener
+    public void onCatalogUpdated(JavelinCatalog.Updated event)
+    {
+        if (!javelinConfig.getWarmup().isEnabled() || targets.isEmpty())
+        {
+            return;
+        }
+        Mono.fromRunnable(() -> warm(event.snapshot()))
+            .subscribeOn(blockingScheduler)
+            .subscribe(v -> {}, e -> log.error("페이지 캐시 예열 실패: {}", e.getMessage(), e));
+    }
+
+    // 미러 기준 상대 경로가 예열된 파일인지 (TTFB 지표 구분용)
+    public boolean isWarm(String relativePath)
+    {
+        return warmPaths.contains(relativePath);
+    }
+
+    // 예열되지 않은 파일 서빙 시작 시 앞부분을 백그라운드로 읽어 요청 스레드가 큰 단위의 순차 읽기 결과를 받도록 함
+    public void readAhead(String relativePath)
+    {
+        long size = javelinConfig.getWarmup().getReadAhead().toBytes();
+        if (size <= 0 || isWarm(relativePath) || readAheadDone.containsKey(relativePath) || !readingAhead.add(relativePath))
+        {
+            return;
+        }
+        Path root = Paths.get(javelinConfig.getDownload().getPath()).normalize();
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root))
+        {
+            readingAhead.remove(relativePath);
+            return;
+        }
+        Mono.fromCallable(() -> load(file, size))
+            .subscribeOn(blockingScheduler)
+            .doFinally(signal -> readingAhead.remove(relativePath))
+            .subscribe(bytes -> {
+                readAheadBytes.increment(bytes);
+                readAheadDone.put(relativePath, Boolean.TRUE);
+            }, e -> log.debug("미리 읽기 실패: {} ({})", relativePath, e.getMessage()));
+    }
+
+    private synchronized void warm(JavelinCatalog.Snapshot snapshot)
+    {
+        if (snapshot.generation() <= warmedGeneration)
+        {
+            return;
+        }
+        long since = warmedGeneration;
+        warmedGeneration = snapshot.generation();
+
+        // 바뀐 파일은 다시 미리 읽을 수 있도록 이력에서 제거
+        snapshot.entries().stream()
+                .filter(entry -> entry.generation() > since)
+                .forEach(entry -> readAheadDone.remove(entry.path()));
+
+        // 기동 후 첫 스냅샷은 기존 파일 전체이므로 기준으로만 삼음 - 기동 직후 첫 요청들과 디스크를 두고 경쟁하지 않도록
+        // 이후 동기화로 새로 게시된 파일만 예열하고, 기존 파일은 서빙 시 미리 읽기로 처리
+        if (since < 0)
+        {
+            log.info("페이지 캐시 예열 기준 세대 {} - 이후 게시되는 파일부터 예열", snapshot.generation());
+            return;
+        }
+
+        Path root = Paths.get(javelinConfig.getDownload().getPath());
+        long budget = javelinConfig.getWarmup().getBudget().toBytes();
+
+        // 최신 파일부터 예산 안에서 적재
+        List<JavelinCatalog.Entry> candidates = snapshot.entries().stream()
+                .filter(entry -> entry.generation() > since && entry.size() <= budget && isTarget(entry.path()))
+                .sorted(Comparator.comparing(JavelinCatalog.Entry::modified).reversed())
+                .toList();
+        long loaded = 0;
+        List<JavelinCatalog.Entry> loadedEntries = new ArrayList<>();
+        for (JavelinCatalog.Entry entry : candidates)
+        {
+            if (loaded + entry.size() > budget)
+            {
+                continue;
+            }
+            try
+            {
+                long bytes = load(root.resolve(entry.path()), entry.size());
+                loaded += bytes;
+                warmedBytes.increment(bytes);
+                loadedEntries.add(entry);
+            }
+            catch (NoSuchFileException e)
+            {
+                // 적재 전에 교체/삭제된 파일
+            }
+            catch (IOException e)
+            {
+                log.warn("페이지 캐시 예열 실패: {} ({})", entry.path(), e.getMessage());
+            }
+        }
+
+        // 오래된 것부터 등록해 예산 초과 시 최신 파일이 남도록 함
+        for (JavelinCatalog.Entry entry : loadedEntries.reversed())
+        {
+            remember(entry.path(), entry.size(), budget);
+        }
+
+        // 삭제된 파일은 예열 목록에서 제외
+        Set<String> live = snapshot.entries().stream().map(JavelinCatalog.Entry::path).collect(Collectors.toSet());
+        warmSet.keySet().retainAll(live);
+        warmBytes.set(warmSet.values().stream().mapToLong(Long::longValue).sum());
+        warmPaths = Set.copyOf(warmSet.keySet());
+
+        if (loaded > 0)
+        {
+            log.info("페이지 캐시 예열 - 세대 {}, {}건, {}", snapshot.generation(), loadedEntries.size(), JavelinCatalog.formatFileSize(loaded));
+        }
+    }
+
+    // 예열 목록 갱신 - 예산을 넘으면 오래된 항목부터 목록에서 제외 (실제 축출은 커널이 결정)
+    private void remember(String path, long bytes, long budget)
+    {
+        warmSet.remove(path);
+        warmSet.put(path, bytes);
+        long total = warmSet.values().stream().mapToLong(Long::longValue).sum();
+        Iterator<Map.Entry<String, Long>> iterator = warmSet.entrySet().iterator();
+        while (total > budget && iterator.hasNext())
+        {
+            total -= iterator.next().getValue();
+            iterator.remove();
+        }
+    }
+
+    private boolean isTarget(String relativePath)
+    {
+        String lowerPath = relativePath.toLowerCase(Locale.ROOT);
+        for (Pattern target : targets)
+        {
+            if (target.matcher(lowerPath).matches())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 앞에서부터 순차로 매핑해 모든 페이지를 읽어 들임 (MappedByteBuffer.load)
+    private static long load(Path file, long limit) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            long end = Math.min(limit, channel.size());
+            for (long position = 0; position < end; position += MAP_CHUNK)
+            {
+                channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, end - position)).load();
+            }
+            return end;
+        }
+    }
+}
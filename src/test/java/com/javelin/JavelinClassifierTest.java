@@ -0,0 +1,58 @@
+package com.javelin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+// application.yaml 에 실린 분류 규칙이 기존 미러 구성(하드코딩 분류)과 같은 결과를 내는지 확인
+class JavelinClassifierTest
+{
+    private static JavelinClassifier classifier;
+
+    @BeforeAll
+    static void setUp() throws IOException
+    {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"));
+        JavelinConfig config = new Binder(ConfigurationPropertySources.from(sources)).bindOrCreate("javelin", JavelinConfig.class);
+        classifier = new JavelinClassifier(config);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', nullValues = "-", textBlock = """
+            # 상대 경로                                                            | 분류                           | 세부 분류 | 버전
+            amazon-corretto-21-x64-windows-jdk.msi                                 | Amazon Corretto JDK            | 21        | 21
+            amazon-corretto-25-x64-windows-jdk.msi                                 | Amazon Corretto JDK            | 25        | 25
+            Git-2.47.1-64-bit.exe                                                  | Git                            | 파일      | 2.47.1
+            apache-maven-3.9.9-bin.zip                                             | Apache Maven                   | 파일      | 3.9.9
+            gradle-8.14-bin.zip                                                    | Gradle                         | 파일      | 8.14
+            VSCodeUserSetup-x64-1.95.3.exe                                         | Microsoft Visual Studio Code   | 파일      | 1.95.3
+            spring-tools-for-eclipse-4.32.2.RELEASE-e4.37.0-win32.win32.x86_64.zip | Spring Tool Suite              | 파일      | 4.32.2
+            Postman-win64-9.31.32-Setup.exe                                        | Postman                        | 파일      | 9.31.32
+            extension/common/redhat.vscode-xml-0.27.1.vsix                         | VS CODE 확장                   | 공통      | 0.27.1
+            extension/remote/ms-vscode-remote.remote-ssh-0.115.0.vsix              | VS CODE 확장                   | 공통      | 0.115.0
+            extension/java/redhat.java-1.36.0.vsix                                 | VS CODE 확장                   | Java      | 1.36.0
+            extension/java/oracle.jdk-tools-1.0.0.vsix                             | VS CODE 확장                   | Java      | 1.0.0
+            extension/spring/vmware.vscode-spring-boot-1.59.0.vsix                 | VS CODE 확장                   | Spring    | 1.59.0
+            extension/openapi/42crunch.vscode-openapi-4.30.0.vsix                  | VS CODE 확장                   | OpenAPI   | 4.30.0
+            github/git-notes-1.0.zip                                               | -                              | -         | 1.0
+            readme.txt                                                             | -                              | -         | Unknown
+            """)
+    void classify(String relativePath, String category, String subcategory, String version)
+    {
+        JavelinClassifier.Classification classification = classifier.classify(relativePath);
+
+        assertThat(classification.category()).isEqualTo(category);
+        assertThat(classification.subcategory()).isEqualTo(subcategory);
+        assertThat(classification.version()).isEqualTo(version);
+    }
+}
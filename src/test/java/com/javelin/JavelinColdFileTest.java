@@ -0,0 +1,149 @@
+package com.javelin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 콜드 계층 파일 형식(.jcold) - 압축/헤더/전체 읽기/프레임 중간으로 skip/마지막 짧은 프레임/손상 검출
+class JavelinColdFileTest
+{
+    private static final int FRAME_SIZE = 4096;
+    private static final String SHA256 = "ab".repeat(32);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripCompressibleFrames() throws IOException
+    {
+        byte[] content = compressible(FRAME_SIZE * 2 + 1000);  // 전체 프레임 2개 + 짧은 마지막 프레임
+        Path cold = compress(content, SHA256);
+
+        JavelinColdFile.Header header = JavelinColdFile.readHeader(cold);
+        assertThat(header.size()).isEqualTo(content.length);
+        assertThat(header.frameCount()).isEqualTo(3);
+        assertThat(header.sha256()).isEqualTo(SHA256);
+        assertThat(header.stored()).containsOnly(false);
+        assertThat(Files.size(cold)).isLessThan(content.length);
+
+        try (InputStream in = JavelinColdFile.open(cold))
+        {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void skipIntoMiddleOfFrame() throws IOException
+    {
+        byte[] content = compressible(FRAME_SIZE * 3);
+        Path cold = compress(content, SHA256);
+
+        int start = FRAME_SIZE + 123;
+        try (InputStream in = JavelinColdFile.open(cold))
+        {
+            assertThat(in.skip(start)).isEqualTo(start);
+            assertThat(in.readNBytes(FRAME_SIZE)).isEqualTo(Arrays.copyOfRange(content, start, start + FRAME_SIZE));  // 다음 프레임까지 이어서 읽음
+        }
+    }
+
+    @Test
+    void readsLastShortFrame() throws IOException
+    {
+        byte[] content = compressible(FRAME_SIZE * 2 + 10);
+        Path cold = compress(content, SHA256);
+
+        try (InputStream in = JavelinColdFile.open(cold))
+        {
+            assertThat(in.skip(content.length - 4)).isEqualTo(content.length - 4);
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, content.length - 4, content.length));
+            assertThat(in.read()).isEqualTo(-1);
+            assertThat(in.skip(100)).isZero();  // 끝을 넘어 건너뛰지 않음
+        }
+    }
+
+    @Test
+    void storesIncompressibleFramesAsIs() throws IOException
+    {
+        byte[] content = new byte[FRAME_SIZE * 2 + 500];
+        new Random(42).nextBytes(content);
+        Path hot = directory.resolve("random.bin");
+        Files.write(hot, content);
+        Path cold = compress(content, null);
+
+        JavelinColdFile.Header header = JavelinColdFile.readHeader(cold);
+        assertThat(header.stored()).containsOnly(true);
+        assertThat(header.sha256()).isNull();
+        assertThat(JavelinColdFile.estimateSaving(hot, FRAME_SIZE, 4)).isLessThan(0.01);
+
+        try (InputStream in = JavelinColdFile.open(cold))
+        {
+            assertThat(in.skip(FRAME_SIZE + 7)).isEqualTo(FRAME_SIZE + 7);
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, FRAME_SIZE + 7, content.length));
+        }
+    }
+
+    @Test
+    void rejectsCorruptedIndex() throws IOException
+    {
+        Path cold = compress(compressible(FRAME_SIZE * 2), SHA256);
+
+        // 두 번째 프레임 위치를 파일 끝 너머로 변경 (헤더 64B 다음 16B 단위 색인)
+        try (FileChannel channel = FileChannel.open(cold, StandardOpenOption.WRITE))
+        {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, Long.MAX_VALUE / 2), 64 + 16);
+        }
+
+        assertThatThrownBy(() -> JavelinColdFile.open(cold)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> JavelinColdFile.readHeader(cold)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsCorruptedFrameData() throws IOException
+    {
+        Path cold = compress(compressible(FRAME_SIZE * 2), SHA256);
+        JavelinColdFile.Header header = JavelinColdFile.readHeader(cold);
+
+        // 첫 프레임 압축 데이터 훼손
+        try (FileChannel channel = FileChannel.open(cold, StandardOpenOption.WRITE))
+        {
+            channel.write(ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF }), header.offsets()[0]);
+        }
+
+        try (InputStream in = JavelinColdFile.open(cold))
+        {
+            assertThatThrownBy(in::readAllBytes).isInstanceOf(IOException.class);
+        }
+    }
+
+    private Path compress(byte[] content, String sha256) throws IOException
+    {
+        Path hot = Files.createTempFile(directory, "hot", ".bin");
+        Files.write(hot, content);
+        Path cold = JavelinColdFile.coldPath(hot);
+        JavelinColdFile.compress(hot, cold, FRAME_SIZE, sha256);
+        return cold;
+    }
+
+    // 반복 패턴에 위치 정보를 섞어 압축은 되지만 프레임마다 내용이 다른 데이터
+    private static byte[] compressible(int length)
+    {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++)
+        {
+            content[i] = (byte) ((i / 64) % 7 + (i % 13 == 0 ? i / 1000 : 0));
+        }
+        return content;
+    }
+}